@@ -0,0 +1,74 @@
+// 게시글/댓글 조회·작성 혼합 부하 (k6)
+// 사용: k6 run -e BASE_URL=http://localhost:8080 -e LABEL=platform loadtest/board-comment.js
+// 결과 요약은 loadtest/results/<LABEL>.json 에 남아 플랫폼 스레드/가상 스레드 실행 간 비교에 사용합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LABEL = __ENV.LABEL || 'run';
+const BOARDS = parseInt(__ENV.BOARDS || '200', 10);
+
+export const options = {
+  scenarios: {
+    // 평상시 부하 후 짧은 폭주 구간: 스레드/커넥션 대기가 쌓이는 상황을 재현합니다.
+    bursty: {
+      executor: 'ramping-arrival-rate',
+      startRate: 200,
+      timeUnit: '1s',
+      preAllocatedVUs: 500,
+      maxVUs: 5000,
+      stages: [
+        { target: 200, duration: '30s' },
+        { target: 2000, duration: '10s' },
+        { target: 2000, duration: '30s' },
+        { target: 200, duration: '10s' },
+        { target: 200, duration: '30s' },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const ids = [];
+  for (let i = 0; i < BOARDS; i++) {
+    const res = http.post(`${BASE_URL}/api/boards`,
+      JSON.stringify({ title: `부하 테스트 ${i}`, content: '내용', author: `writer${i % 50}` }),
+      { headers: { 'Content-Type': 'application/json' } });
+    ids.push(res.json('id'));
+  }
+  return { ids };
+}
+
+export default function (data) {
+  const boardId = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const roll = Math.random();
+
+  if (roll < 0.35) {
+    check(http.get(`${BASE_URL}/api/boards?page=0&size=20`, { tags: { name: 'boards' } }),
+      { 'boards 200': (r) => r.status === 200 });
+  } else if (roll < 0.6) {
+    check(http.get(`${BASE_URL}/api/boards/${boardId}`, { tags: { name: 'board' } }),
+      { 'board 200': (r) => r.status === 200 });
+  } else if (roll < 0.85) {
+    check(http.get(`${BASE_URL}/api/boards/${boardId}/comments`, { tags: { name: 'comments' } }),
+      { 'comments 200': (r) => r.status === 200 });
+  } else {
+    check(http.post(`${BASE_URL}/api/boards/${boardId}/comments`,
+      JSON.stringify({ content: '기도합니다', author: `user${__VU}` }),
+      { headers: { 'Content-Type': 'application/json' }, tags: { name: 'createComment' } }),
+      { 'comment 2xx': (r) => r.status >= 200 && r.status < 300 });
+  }
+}
+
+export function handleSummary(data) {
+  return {
+    [`loadtest/results/${LABEL}.json`]: JSON.stringify(data, null, 2),
+    stdout: `\n[${LABEL}] p95=${data.metrics.http_req_duration.values['p(95)']}ms `
+      + `p99=${data.metrics.http_req_duration.values['p(99)']}ms `
+      + `failed=${data.metrics.http_req_failed.values.rate}\n`,
+  };
+}
@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# 같은 DB 에 대해 플랫폼 스레드(기본 설정)와 가상 스레드(vt 프로필)로 차례로 애플리케이션을 띄우고 동일한 k6 부하를 겁니다.
+# 요구 사항: JDK 21, k6, 로컬 PostgreSQL(application.properties 설정)
+# 결과: loadtest/results/platform.json, loadtest/results/virtual.json
+set -euo pipefail
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+./gradlew -q bootJar -PjavaVersion=21
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+run() {
+  local label=$1 jvm_opts=$2 app_args=$3
+  # shellcheck disable=SC2086
+  java $jvm_opts -jar "$JAR" $app_args > "loadtest/results/${label}.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+  until curl -sf http://localhost:8080/actuator/health > /dev/null; do sleep 1; done
+  k6 run -e LABEL="$label" loadtest/board-comment.js
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run platform "" ""
+run virtual "-Djdk.tracePinnedThreads=short" "--spring.profiles.active=vt"
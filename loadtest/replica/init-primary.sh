@@ -0,0 +1,6 @@
+#!/bin/sh
+# primary 최초 초기화 시 복제 계정과 복제 접속 허용 규칙을 추가합니다.
+set -e
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" \
+    -c "CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD 'replicator'"
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,33 @@
+// 전문 검색 지연 측정 (k6): seed-search.sql 로 100만 건을 넣고 색인 보강이 끝난 뒤 실행합니다.
+// 사용: k6 run -e BASE_URL=http://localhost:8080 loadtest/search.js  → loadtest/results/search.json
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+// 흔한 단어, 드문 단어, 한 글자, 영문, 여러 단어 조합
+const QUERIES = ['기도', '건강', '합격', '수', 'spring', '가족 건강', '취업 준비', '평안'];
+
+export const options = {
+  scenarios: {
+    search: { executor: 'constant-arrival-rate', rate: 200, timeUnit: '1s', duration: '2m', preAllocatedVUs: 200 },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+  const q = encodeURIComponent(QUERIES[Math.floor(Math.random() * QUERIES.length)]);
+  const page = Math.random() < 0.8 ? 0 : Math.floor(Math.random() * 10);
+  const url = Math.random() < 0.7
+    ? `${BASE_URL}/api/search/boards?q=${q}&page=${page}&size=10`
+    : `${BASE_URL}/api/search/comments?q=${q}&page=${page}&size=20`;
+  check(http.get(url, { tags: { name: url.includes('/boards') ? 'searchBoards' : 'searchComments' } }),
+    { 'search 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  return {
+    'loadtest/results/search.json': JSON.stringify(data, null, 2),
+    stdout: `\n[search] p95=${data.metrics.http_req_duration.values['p(95)']}ms `
+      + `p99=${data.metrics.http_req_duration.values['p(99)']}ms\n`,
+  };
+}
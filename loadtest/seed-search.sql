@@ -0,0 +1,18 @@
+-- 검색 지연 측정용 데이터: 게시글 1,000,000건, 댓글 3,000,000건 (psql -f loadtest/seed-search.sql board_db)
+-- 토큰 컬럼은 비워 두고, 애플리케이션 기동 시 SearchIndexBackfill 이 SearchTokenizer 로 채웁니다.
+INSERT INTO board (id, title, content, author, like_count, dislike_count, comment_count, created_at, updated_at)
+SELECT nextval('board_seq'),
+       (ARRAY['가족의 건강을 위해', '취업 준비 중입니다', '시험 합격을 기도합니다', '교회 수련회', '새해 소망'])[1 + g % 5] || ' ' || g,
+       (ARRAY['함께 기도해 주세요.', '감사한 하루였습니다.', '마음이 평안하길 바랍니다.', 'Spring 공부 중 힘이 듭니다.'])[1 + g % 4],
+       'user' || (g % 5000), 0, 0, 3, now() - (g || ' seconds')::interval, now()
+FROM generate_series(1, 1000000) g;
+
+INSERT INTO comments (id, board_id, content, author, created_at, updated_at)
+SELECT nextval('comments_seq'), b.id,
+       (ARRAY['기도합니다', '힘내세요', '응원합니다 화이팅', '감사합니다'])[1 + (b.id + r) % 4],
+       'user' || ((b.id + r) % 5000), b.created_at, b.created_at
+FROM board b, generate_series(1, 3) r;
+
+UPDATE comments SET path = lpad(id::text, 19, '0') WHERE path IS NULL;
+ANALYZE board;
+ANALYZE comments;
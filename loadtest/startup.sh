@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# 애플리케이션을 실행할 때부터 첫 요청(GET /api/boards?size=1)이 200 으로 응답할 때까지의 시간을 기동 방식별로 잽니다.
+#   baseline : 기본 설정 (ddl-auto=validate 는 기본 설정에도 이미 들어 있습니다)
+#   prod     : prod 프로필 (프레임워크 빈 지연 초기화, DispatcherServlet 기동 시 초기화, 기동 로그 생략)
+#   aot      : prod + AOT 로 미리 생성한 빈 정의 (-Dspring.aot.enabled=true)
+#   aot-cds  : aot + CDS 아카이브 (-XX:SharedArchiveFile)
+# 요구 사항: JDK 17 이상, 로컬 PostgreSQL(application.properties 설정)
+# 결과: loadtest/results/startup.txt (방식별 중앙값, ms), loadtest/results/startup-<방식>.log
+set -euo pipefail
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+RUNS=${RUNS:-5}
+URL=http://localhost:8080/api/boards?size=1
+
+./gradlew -q bootJar -Paot
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+# CDS 는 압축 해제된 레이아웃(application/*.jar + lib/)에서만 쓸 수 있습니다.
+rm -rf build/startup
+java -Djarmode=tools -jar "$JAR" extract --destination build/startup
+APP=build/startup/$(basename "$JAR")
+ARCHIVE=build/startup/application.jsa
+
+# 학습 실행: DB 없이 컨텍스트를 새로 고친 직후 종료하며 읽은 클래스를 아카이브로 남깁니다.
+# AOT 코드에는 Flyway 사용 여부가 prod 기준으로 고정되어 있어 cds 프로필로 끌 수 없으므로 AOT 없이 학습합니다.
+java -XX:ArchiveClassesAtExit="$ARCHIVE" -Dspring.context.exit=onRefresh \
+  -jar "$APP" --spring.profiles.active=prod,cds > loadtest/results/startup-training.log 2>&1
+
+now_ms() { date +%s%3N; }
+
+measure() {
+  local label=$1 jvm_opts=$2 app_args=$3
+  local times=()
+  for _ in $(seq "$RUNS"); do
+    local start pid
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    java $jvm_opts -jar "$APP" $app_args > "loadtest/results/startup-${label}.log" 2>&1 &
+    pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+    until curl -sf -o /dev/null "$URL"; do sleep 0.05; done
+    times+=($(( $(now_ms) - start )))
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    trap - EXIT
+  done
+  local median
+  median=$(printf '%s\n' "${times[@]}" | sort -n | sed -n "$(( (RUNS + 1) / 2 ))p")
+  printf '%-9s median %6d ms  (%s)\n' "$label" "$median" "${times[*]}" | tee -a loadtest/results/startup.txt
+}
+
+# baseline 도 ddl-auto=validate 로 기동하므로 baseline 과 prod 의 차이에는 update -> validate 효과가 들어 있지 않습니다.
+echo "# baseline/prod 모두 ddl-auto=validate (기본 설정): prod 와의 차이는 지연 초기화 등 prod 프로필의 나머지 설정 효과입니다." \
+  > loadtest/results/startup.txt
+measure baseline "" ""
+measure prod "" "--spring.profiles.active=prod"
+measure aot "-Dspring.aot.enabled=true" "--spring.profiles.active=prod"
+measure aot-cds "-Dspring.aot.enabled=true -XX:SharedArchiveFile=$ARCHIVE" "--spring.profiles.active=prod"
@@ -0,0 +1,83 @@
+package com.pray.board.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.entity.Board;
+
+/**
+ * 게시글 목록 응답(Page&lt;BoardResponseDto&gt;)의 DTO 변환과 Jackson 직렬화 비용을 페이지 크기/본문 길이별로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardPageSerializationBenchmark {
+
+    @Param({ "10", "50" })
+    private int pageSize;
+
+    @Param({ "200", "5000" })
+    private int contentLength;
+
+    private List<Board> boards;
+    private Page<BoardResponseDto> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션과 같은 설정(JavaTimeModule 등)의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        String content = "주님의 평안을 구합니다. ".repeat(contentLength / 14 + 1).substring(0, contentLength);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        boards = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            boards.add(Board.builder()
+                    .id((long) i + 1)
+                    .title("기도 제목 " + i)
+                    .content(content)
+                    .author("작성자" + i)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .likeCount(i * 3L)
+                    .dislikeCount(i)
+                    .commentCount(i * 7L)
+                    .build());
+        }
+        page = toPage(boards);
+    }
+
+    @Benchmark
+    public Page<BoardResponseDto> mapEntitiesToDtos() {
+        return toPage(boards);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private Page<BoardResponseDto> toPage(List<Board> source) {
+        List<BoardResponseDto> content = source.stream().map(BoardResponseDto::new).toList();
+        return new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "id")), 10_000);
+    }
+}
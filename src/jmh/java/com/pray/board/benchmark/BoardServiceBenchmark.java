@@ -0,0 +1,145 @@
+package com.pray.board.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.pray.board.BoardApplication;
+import com.pray.board.config.CacheConfig;
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.service.BoardService;
+import com.pray.board.service.CommentService;
+import com.pray.board.service.LikeToggleBuffer;
+
+/**
+ * 실제 서비스 빈을 H2(PostgreSQL 모드) 위에서 호출하는 벤치마크입니다.
+ * 게시글 1,000건, 인기 게시글 하나에 댓글 2,000건(최대 6단계)과 좋아요를 미리 채워 둡니다.
+ * 좋아요 토글의 upsert 한 문장은 PostgreSQL 전용이므로 여기서는 write-behind 버퍼(board.like.buffer.enabled)로 측정합니다.
+ * (한 문장 토글은 LikeToggleConcurrencyTest 에서 PostgreSQL 로 검증합니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardServiceBenchmark {
+
+    private static final int BOARDS = 1_000;
+    private static final int HOT_BOARD_COMMENTS = 2_000;
+    private static final int AUTHORS = 200;
+
+    private ConfigurableApplicationContext context;
+    private BoardService boardService;
+    private CommentService commentService;
+    private CacheManager cacheManager;
+    private LikeToggleBuffer likeToggleBuffer;
+    private Long hotBoardId;
+    private Pageable firstPage;
+    private final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.flyway.enabled=false",
+                        "board.like.buffer.enabled=true",
+                        "logging.level.root=WARN")
+                .run();
+
+        boardService = context.getBean(BoardService.class);
+        commentService = context.getBean(CommentService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        likeToggleBuffer = context.getBean(LikeToggleBuffer.class);
+        seed(context.getBean(BoardRepository.class));
+        firstPage = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    private void seed(BoardRepository boardRepository) {
+        for (int i = 0; i < BOARDS; i++) {
+            Board board = boardRepository.save(Board.builder()
+                    .title("기도 제목 " + i)
+                    .content("함께 기도해 주세요. ".repeat(20))
+                    .author("작성자" + (i % AUTHORS))
+                    .build());
+            hotBoardId = board.getId();
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        for (int i = 0; i < HOT_BOARD_COMMENTS; i++) {
+            int parentIndex = (ids.isEmpty() || random.nextInt(10) < 3) ? -1 : random.nextInt(ids.size());
+            if (parentIndex >= 0 && depths.get(parentIndex) >= 5) {
+                parentIndex = -1;
+            }
+            Long parentId = (parentIndex >= 0 ? ids.get(parentIndex) : null);
+            CommentResponseDto created = commentService.createComment(hotBoardId,
+                    new CommentRequestDto("아멘 " + i, "작성자" + (i % AUTHORS), parentId));
+            ids.add(created.getId());
+            depths.add(parentIndex >= 0 ? depths.get(parentIndex) + 1 : 0);
+        }
+
+        for (int i = 0; i < AUTHORS; i++) {
+            boardService.toggleLike(hotBoardId, "작성자" + i, i % 4 != 0);
+        }
+        likeToggleBuffer.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BoardResponseDto> getAllBoardsFirstPage() {
+        return boardService.getAllBoards(firstPage);
+    }
+
+    @Benchmark
+    public BoardResponseDto getBoardByIdCached() {
+        return boardService.getBoardById(hotBoardId);
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> getCommentTreeCached() {
+        return commentService.getCommentsByBoardId(hotBoardId);
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> getCommentTreeUncached() {
+        cacheManager.getCache(CacheConfig.COMMENT_TREE).evict(hotBoardId);
+        return commentService.getCommentsByBoardId(hotBoardId);
+    }
+
+    @Benchmark
+    public void toggleLike() {
+        boardService.toggleLike(hotBoardId, "작성자" + random.nextInt(AUTHORS), random.nextBoolean());
+    }
+}
@@ -0,0 +1,111 @@
+package com.pray.board.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.entity.Comment;
+import com.pray.board.service.CommentTreeBuilder;
+
+/**
+ * 댓글 트리 조립 알고리즘 벤치마크입니다.
+ * DB 에서 읽은 행을 DTO 로 만드는 비용까지 포함하여, path 순 단일 순회(현재)와
+ * HashMap 연결 + 재귀 정렬(이전 방식)을 댓글 수/깊이별로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    private int comments;
+
+    @Param({ "1", "4", "32" })
+    private int maxDepth;
+
+    private Row[] pathOrderedRows;
+    private Row[] createdAtOrderedRows;
+
+    private record Row(long id, Long parentId, String path, LocalDateTime createdAt) {
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Row> rows = new ArrayList<>(comments);
+        List<Integer> depths = new ArrayList<>(comments);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        for (int i = 0; i < comments; i++) {
+            long id = i + 1;
+            // 약 30% 는 최상위 댓글, 나머지는 깊이 제한 안에서 임의의 기존 댓글에 대한 답글입니다.
+            int parentIndex = (i == 0 || random.nextInt(10) < 3) ? -1 : random.nextInt(i);
+            if (parentIndex >= 0 && depths.get(parentIndex) + 1 >= maxDepth) {
+                parentIndex = -1;
+            }
+            Row parent = (parentIndex >= 0 ? rows.get(parentIndex) : null);
+            rows.add(new Row(id,
+                    parent != null ? parent.id() : null,
+                    Comment.childPath(parent != null ? parent.path() : null, id),
+                    base.plusSeconds(id)));
+            depths.add(parent != null ? depths.get(parentIndex) + 1 : 0);
+        }
+
+        createdAtOrderedRows = rows.toArray(Row[]::new);
+        pathOrderedRows = rows.stream().sorted(Comparator.comparing(Row::path)).toArray(Row[]::new);
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> pathOrderedSinglePass() {
+        return CommentTreeBuilder.build(toDtos(pathOrderedRows));
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> hashMapWithRecursiveSort() {
+        List<CommentResponseDto> dtos = toDtos(createdAtOrderedRows);
+        Map<Long, CommentResponseDto> byId = dtos.stream()
+                .collect(Collectors.toMap(CommentResponseDto::getId, dto -> dto));
+
+        List<CommentResponseDto> roots = new ArrayList<>();
+        byId.values().forEach(dto -> {
+            if (dto.getParentId() == null) {
+                roots.add(dto);
+            } else {
+                CommentResponseDto parent = byId.get(dto.getParentId());
+                if (parent != null) {
+                    parent.getChildren().add(dto);
+                }
+            }
+        });
+        roots.forEach(CommentTreeBenchmark::sortChildren);
+        return roots;
+    }
+
+    private static void sortChildren(CommentResponseDto dto) {
+        dto.getChildren().sort(Comparator.comparing(CommentResponseDto::getCreatedAt));
+        dto.getChildren().forEach(CommentTreeBenchmark::sortChildren);
+    }
+
+    private static List<CommentResponseDto> toDtos(Row[] rows) {
+        return Arrays.stream(rows)
+                .map(row -> new CommentResponseDto(row.id(), 1L, row.parentId(), "기도합니다", "작성자",
+                        row.createdAt(), row.createdAt(), null))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,119 @@
+package com.pray.board.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.dto.BoardSummaryDto;
+
+/**
+ * 게시글 목록 응답의 직렬화 시간과 크기를 비교합니다.
+ * 이전 응답(Page&lt;BoardResponseDto&gt;: 본문 전체 + Pageable 메타데이터), 요약 + PagedModel,
+ * 요약 + fields 선택, 그리고 요약 응답의 gzip 압축 비용입니다.
+ * 각 응답의 바이트 수(원본/gzip)는 Setup 에서 한 번 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListPayloadBenchmark {
+
+    private static final int PREVIEW_LENGTH = 120;
+
+    @Param({ "10", "50" })
+    private int pageSize;
+
+    @Param({ "200", "2000" })
+    private int contentLength;
+
+    private ObjectWriter writer;
+    private ObjectWriter sparseWriter;
+    private Page<BoardResponseDto> fullPage;
+    private PagedModel<BoardSummaryDto> summaryPage;
+    private byte[] summaryJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 애플리케이션(JacksonConfig)과 같은 설정의 ObjectMapper
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()))
+                .build();
+        writer = objectMapper.writer();
+        sparseWriter = objectMapper.writer(new SimpleFilterProvider()
+                .addFilter(BoardSummaryDto.FIELDS_FILTER,
+                        SimpleBeanPropertyFilter.filterOutAllExcept(Set.of("id", "title", "likeCount", "commentCount"))));
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        String content = "함께 기도해 주세요. ".repeat(contentLength / 12 + 1).substring(0, contentLength);
+        List<BoardResponseDto> rows = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            rows.add(new BoardResponseDto((long) (10_000 - i), "기도 제목 " + i, content, "작성자" + i,
+                    now.minusMinutes(i), now.minusMinutes(i), 12, 1, 7));
+        }
+        PageRequest pageable = PageRequest.of(3, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+        fullPage = new PageImpl<>(rows, pageable, 10_000);
+        summaryPage = new PagedModel<>(fullPage.map(dto -> BoardSummaryDto.of(dto, PREVIEW_LENGTH)));
+        summaryJson = writer.writeValueAsBytes(summaryPage);
+
+        System.out.printf("%n[payload] pageSize=%d contentLength=%d : full=%d B (gzip %d B), summary=%d B (gzip %d B), sparse=%d B%n",
+                pageSize, contentLength,
+                fullPageJson().length, gzip(fullPageJson()).length,
+                summaryJson.length, gzip(summaryJson).length,
+                sparseSummaryJson().length);
+    }
+
+    @Benchmark
+    public byte[] fullPageJson() throws IOException {
+        return writer.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] summaryPagedModelJson() throws IOException {
+        return writer.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] sparseSummaryJson() throws IOException {
+        return sparseWriter.writeValueAsBytes(summaryPage);
+    }
+
+    // 응답 압축(server.compression)이 요약 응답 한 건에 더하는 CPU 비용
+    @Benchmark
+    public byte[] gzipSummaryJson() throws IOException {
+        return gzip(summaryJson);
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+}
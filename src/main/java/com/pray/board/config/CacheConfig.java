@@ -0,0 +1,55 @@
+package com.pray.board.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 게시글 상세와 댓글 트리를 위한 프로세스 내 Caffeine 캐시입니다.
+ * <p>
+ * 트랜잭션 안에서 호출한 evict 는 커밋 이후에 반영되도록 {@link TransactionAwareCacheManagerProxy} 로 감쌉니다.
+ * (커밋 전에 지우면 동시에 들어온 조회가 이전 값을 다시 채울 수 있습니다)
+ * 적중/미스/축출 통계는 Actuator 의 cache.* 메트릭으로 노출됩니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String BOARD_DETAIL = "boardDetail";
+    public static final String COMMENT_TREE = "commentTree";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${board.cache.board-detail.spec:maximumSize=10000,expireAfterWrite=60s}") String boardDetailSpec,
+            @Value("${board.cache.comment-tree.spec:maximumSize=1000,expireAfterWrite=30s}") String commentTreeSpec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.registerCustomCache(BOARD_DETAIL, Caffeine.from(boardDetailSpec).recordStats().build());
+        caffeineCacheManager.registerCustomCache(COMMENT_TREE, Caffeine.from(commentTreeSpec).recordStats().build());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 채웁니다. loader 의 예외(EntityNotFoundException 등)는 감싸지 않고 그대로 던집니다.
+     * <p>
+     * 캐시 값은 이후 모든 요청(다른 클라이언트 포함)이 DB 를 거치지 않고 받으므로, loader 는 복제본이 아니라 primary 에서 읽습니다.
+     * (쓰기 직후 evict 된 자리를 지연된 복제본의 이전 값으로 다시 채우면 만료될 때까지 그 값이 나갑니다)
+     * 읽기 전용 트랜잭션의 커넥션은 첫 SQL 에서 정해지므로, loader 가 그 트랜잭션의 첫 SQL 이어야 합니다.
+     */
+    public static <T> T getOrLoad(Cache cache, Object key, Callable<T> loader) {
+        try {
+            return cache.get(key, () -> ReadYourWritesFilter.callOnPrimary(loader));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
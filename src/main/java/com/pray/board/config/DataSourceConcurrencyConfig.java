@@ -0,0 +1,37 @@
+package com.pray.board.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * board.datasource.concurrency-limit.enabled=true 이면 애플리케이션 DataSource 를
+ * {@link ConcurrencyLimitingDataSource} 로 감쌉니다. (가상 스레드 프로필 application-vt.properties 에서 사용)
+ * max-concurrent 를 지정하지 않으면 Hikari maximum-pool-size 를 따릅니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrent = environment.getProperty(
+                        "board.datasource.concurrency-limit.max-concurrent", Integer.class, poolSize);
+                long acquireTimeoutMs = environment.getProperty(
+                        "board.datasource.concurrency-limit.acquire-timeout-ms", Long.class, 2000L);
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrent, acquireTimeoutMs);
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.pray.board.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * {@code @JsonFilter} 가 붙은 응답 DTO(BoardSummaryDto)를 필터 지정 없이 직렬화할 때 모든 속성을 쓰도록
+ * 기본 필터를 등록합니다. 요청별 필드 선택은 컨트롤러가 MappingJacksonValue 로 필터를 넘겨 처리합니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultPropertyFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.pray.board.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * spring.main.lazy-initialization=true (prod 프로필)일 때 지연 초기화에서 뺄 빈을 정합니다.
+ * <p>
+ * 이 애플리케이션의 빈은 모두 기동 시 만듭니다. 컨트롤러가 서비스/저장소/EntityManagerFactory 를 끌어와
+ * 첫 요청이 초기화 비용을 치르지 않고 설정 오류도 기동 중에 드러나며, 아무도 주입받지 않는 @Scheduled 작업
+ * (BoardCounterReconciler, BoardPurgeWorker 등)과 모니터도 빠짐없이 시작됩니다.
+ * 그 밖의 자동 구성 빈은 처음 쓰일 때 만들어집니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.main.lazy-initialization", havingValue = "true")
+public class LazyInitializationConfig {
+
+    private static final String APPLICATION_PACKAGE = "com.pray.board.";
+
+    // BeanFactoryPostProcessor 단계에서 조회되므로 static 으로 둡니다.
+    @Bean
+    static LazyInitializationExcludeFilter applicationBeansAreEager() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && beanType.getName().startsWith(APPLICATION_PACKAGE);
+    }
+}
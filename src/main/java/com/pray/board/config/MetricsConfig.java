@@ -0,0 +1,62 @@
+package com.pray.board.config;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 서비스 메서드 타이머(@Timed)와 커넥션 풀 포화도 지표를 등록합니다.
+ * <p>
+ * Hikari 의 기본 지표(hikaricp.connections.active/pending 등)와 Spring Data 저장소 호출 타이머
+ * (spring.data.repository.invocations)는 Spring Boot 가 자동으로 등록하며, 여기서는 그 위에
+ * 풀 사용률(board.db.pool.utilization)과 DB 동시 사용 제한 대기열(board.db.limiter.queue)을 더합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // @Timed 가 붙은 클래스/메서드를 타이머로 감쌉니다. (class, method 태그)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder connectionPoolSaturationMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                    Gauge.builder("board.db.pool.utilization", hikari, MetricsConfig::utilization)
+                            .description("사용 중인 커넥션 / 최대 풀 크기 (1 이면 포화)")
+                            .register(registry);
+                }
+            } catch (SQLException e) {
+                // 풀 정보를 알 수 없으면 추가 지표 없이 진행합니다.
+            }
+            if (dataSource instanceof ConcurrencyLimitingDataSource limiter) {
+                Gauge.builder("board.db.limiter.queue", limiter, ConcurrencyLimitingDataSource::getQueueLength)
+                        .description("커넥션 허가를 기다리는 스레드 수")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double utilization(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,121 @@
+package com.pray.board.config;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 자신이 쓴 내용을 바로 읽도록(read-your-writes) 쓰기 요청 직후 잠시 동안 그 클라이언트의 읽기를 primary 로 보냅니다.
+ * <p>
+ * 변경 요청(POST/PUT/PATCH/DELETE)을 받으면 응답을 쓰기 전에 만료 시각을 담은 쿠키를 내려보내고,
+ * 그 쿠키가 아직 유효한 요청은 읽기 전용 트랜잭션도 primary 를 씁니다. ({@link ReplicaPoolDataSource})
+ * 쓰기가 실패한 요청도 쿠키를 받지만 잠시 primary 에서 읽을 뿐이라 문제가 없습니다.
+ * 요청 스레드가 아닌 곳(비동기 응답 스레드)에는 {@link #propagate(Runnable)} 로 넘겨 줍니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "board-primary-until";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final long windowMs;
+
+    public ReadYourWritesFilter(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    /** 현재 스레드의 요청이 쓰기 직후 구간에 있어 primary 에서 읽어야 하는지 */
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    /**
+     * task 를 실행하는 동안 현재 스레드의 읽기를 primary 로 보냅니다. 끝나면 이전 상태로 돌립니다.
+     * 여러 요청이 함께 보는 캐시를 채울 때처럼, 복제본의 지연된 값을 읽으면 안 되는 곳에서 씁니다.
+     */
+    public static <T> T callOnPrimary(Callable<T> task) throws Exception {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(true);
+        try {
+            return task.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 현재 스레드의 primary 여부를 task 를 실행할 다른 스레드로 넘깁니다. (비동기 응답 StreamingResponseBody 등)
+     * 제출하는 스레드에서 감싸야 하며, 실행기의 TaskDecorator 로 등록합니다. ({@link ReplicaRoutingConfig})
+     */
+    public static Runnable propagate(Runnable task) {
+        boolean primaryRequired = isPrimaryRequired();
+        return () -> {
+            Boolean previous = PRIMARY_REQUIRED.get();
+            PRIMARY_REQUIRED.set(primaryRequired);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Boolean previous) {
+        if (previous != null) {
+            PRIMARY_REQUIRED.set(previous);
+        } else {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = WRITE_METHODS.contains(request.getMethod());
+        if (write) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now + windowMs))
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .maxAge((windowMs + 999) / 1000)
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+
+        PRIMARY_REQUIRED.set(write || primaryUntil(request) > now);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,129 @@
+package com.pray.board.config;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 전용 트랜잭션이 쓰는 복제본(replica) 커넥션 풀 묶음입니다.
+ * <p>
+ * 정상인 복제본을 돌아가며(round-robin) 고르고, 주기적인 점검에서 연결이 안 되거나 복제 지연이
+ * maxLagMs 를 넘는 복제본은 빼 둡니다. 정상인 복제본이 없거나, 현재 요청이 자신의 쓰기 직후
+ * ({@link ReadYourWritesFilter})이면 primary 에서 읽습니다.
+ */
+public class ReplicaPoolDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPoolDataSource.class);
+
+    // 재생할 WAL 이 남아 있을 때만 마지막 재생 시각과의 차이를 지연으로 봅니다. (복제본이 아닌 DB 는 0)
+    private static final String LAG_SQL = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END, 0)";
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthCheck;
+
+    // 점검 결과로 통째로 교체합니다.
+    private volatile List<HikariDataSource> healthy;
+
+    public ReplicaPoolDataSource(DataSource primary, List<HikariDataSource> replicas, long healthCheckIntervalMs, long maxLagMs) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthy = this.replicas;
+        this.maxLagMs = maxLagMs;
+        this.healthCheck = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthCheck.scheduleWithFixedDelay(this::checkHealth, 0, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        List<HikariDataSource> candidates = healthy;
+        if (ReadYourWritesFilter.isPrimaryRequired() || candidates.isEmpty()) {
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            HikariDataSource replica = candidates.get((start + i) % candidates.size());
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                // 다음 점검까지 기다리지 않고 바로 뺍니다.
+                log.warn("복제본 {} 연결 실패, 다음 복제본 또는 primary 로 넘깁니다: {}", replica.getPoolName(), e.getMessage());
+                markUnhealthy(replica);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복제본 풀은 설정된 계정으로만 연결합니다.");
+    }
+
+    /** 현재 정상으로 판단된 복제본 수 (모니터링용) */
+    public int getHealthyCount() {
+        return healthy.size();
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    void checkHealth() {
+        List<HikariDataSource> result = replicas.stream().filter(this::isHealthy).toList();
+        if (result.size() != healthy.size()) {
+            log.info("정상 복제본 {}/{}", result.size(), replicas.size());
+        }
+        healthy = result;
+    }
+
+    private boolean isHealthy(HikariDataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            double lagMs = rs.getDouble(1);
+            if (lagMs > maxLagMs) {
+                log.warn("복제본 {} 지연 {}ms 가 한도 {}ms 를 넘어 제외합니다.", replica.getPoolName(), (long) lagMs, maxLagMs);
+                return false;
+            }
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            log.warn("복제본 {} 점검 실패: {}", replica.getPoolName(), e.getMessage());
+            return false;
+        }
+    }
+
+    // 점검과 겹쳐 덮어써지더라도 다음 점검에서 바로잡히므로 잠그지 않습니다.
+    private void markUnhealthy(HikariDataSource replica) {
+        healthy = healthy.stream().filter(candidate -> candidate != replica).toList();
+    }
+
+    @Override
+    public void close() {
+        healthCheck.shutdownNow();
+        replicas.forEach(HikariDataSource::close);
+    }
+}
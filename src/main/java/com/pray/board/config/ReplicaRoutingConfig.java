@@ -0,0 +1,90 @@
+package com.pray.board.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * board.datasource.replica.enabled=true 이면 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource 를 등록합니다.
+ * <p>
+ * primary 는 spring.datasource.* (Hikari 설정 포함)를 그대로 쓰고, 복제본은 같은 계정으로
+ * board.datasource.replica.urls 의 주소마다 별도 풀을 만듭니다. DataSource 빈을 직접 정의하므로
+ * Spring Boot 의 기본 DataSource 자동 구성은 물러납니다. (Flyway 등 쓰기는 모두 primary)
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry,
+                                 @Value("${board.datasource.replica.urls}") List<String> urls,
+                                 @Value("${board.datasource.replica.maximum-pool-size:10}") int replicaPoolSize,
+                                 @Value("${board.datasource.replica.connection-timeout-ms:1000}") long replicaConnectionTimeoutMs,
+                                 @Value("${board.datasource.replica.health-check-ms:5000}") long healthCheckMs,
+                                 @Value("${board.datasource.replica.max-lag-ms:2000}") long maxLagMs) {
+        HikariDataSource primary = hikari(properties, properties.determineUrl(), environment);
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = hikari(properties, urls.get(i).trim(), environment);
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            // 복제본이 죽어 있으면 오래 기다리지 않고 다음 복제본이나 primary 로 넘깁니다.
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(replica);
+        }
+
+        ReplicaPoolDataSource pool = new ReplicaPoolDataSource(primary, replicas, healthCheckMs, maxLagMs);
+        Gauge.builder("board.db.replica.healthy", pool, ReplicaPoolDataSource::getHealthyCount)
+                .description("읽기 전용 트랜잭션에 쓰는 정상 복제본 수")
+                .register(meterRegistry);
+        return new ReplicaRoutingDataSource(primary, pool);
+    }
+
+    // 변경 요청 직후 그 클라이언트의 읽기는 read-your-writes-ms 동안 primary 로 보냅니다.
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${board.datasource.replica.read-your-writes-ms:5000}") long windowMs) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(windowMs));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    // 비동기 응답(StreamingResponseBody 등)을 실행하는 applicationTaskExecutor 에도 요청의 primary 여부를 넘깁니다.
+    @Bean
+    public TaskDecorator readYourWritesTaskDecorator() {
+        return ReadYourWritesFilter::propagate;
+    }
+
+    private static HikariDataSource hikari(DataSourceProperties properties, String url, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+}
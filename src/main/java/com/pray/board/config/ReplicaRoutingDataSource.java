@@ -0,0 +1,37 @@
+package com.pray.board.config;
+
+import java.io.Closeable;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 JDBC 호출)는 primary 로 보내는 DataSource 입니다.
+ * <p>
+ * JPA 트랜잭션 매니저는 트랜잭션 시작 시 커넥션을 잡고 그 뒤에 읽기 전용 여부를 설정하므로, 실제 커넥션은
+ * 첫 SQL 을 실행할 때 얻도록 미룹니다. (LazyConnectionDataSourceProxy) 이때 읽기 전용으로 표시된 커넥션은
+ * {@link ReplicaPoolDataSource} 에서 가져옵니다.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+    private final ReplicaPoolDataSource replicas;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, ReplicaPoolDataSource replicas) {
+        super(primary);
+        setReadOnlyDataSource(replicas);
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    public ReplicaPoolDataSource getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.close();
+        primary.close();
+    }
+}
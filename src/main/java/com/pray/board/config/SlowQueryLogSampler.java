@@ -0,0 +1,72 @@
+package com.pray.board.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hibernate 의 느린 쿼리 로그(org.hibernate.SQL_SLOW, hibernate.log_slow_query 임계값 초과)를 표본으로만 남깁니다.
+ * <p>
+ * 느린 쿼리는 모두 board.db.slow-queries 카운터로 세고, 로그는 sampleRate 비율만 남깁니다.
+ * DB 가 전반적으로 느려져 모든 쿼리가 임계값을 넘을 때도 로그 양이 요청량에 비례해 폭증하지 않습니다.
+ */
+@Component
+public class SlowQueryLogSampler extends TurboFilter implements DisposableBean {
+
+    static final String SLOW_QUERY_LOGGER = "org.hibernate.SQL_SLOW";
+
+    private final double sampleRate;
+    private final Counter slowQueries;
+    private final Counter droppedLogs;
+
+    public SlowQueryLogSampler(MeterRegistry meterRegistry,
+                               @Value("${board.slow-query.log-sample-rate:0.1}") double sampleRate) {
+        this.sampleRate = sampleRate;
+        this.slowQueries = Counter.builder("board.db.slow-queries")
+                .description("hibernate.log_slow_query 임계값을 넘은 쿼리 수 (로그 표본 여부와 무관)")
+                .register(meterRegistry);
+        this.droppedLogs = Counter.builder("board.db.slow-queries.dropped-logs")
+                .description("표본에서 빠져 로그를 남기지 않은 느린 쿼리 수")
+                .register(meterRegistry);
+        setName("slow-query-log-sampler");
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            setContext(context);
+            start();
+            context.addTurboFilter(this);
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format 이 없으면 isInfoEnabled() 같은 레벨 확인이므로 실제 로그 한 건으로 세지 않습니다.
+        if (format == null || !SLOW_QUERY_LOGGER.equals(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        slowQueries.increment();
+        if (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return FilterReply.NEUTRAL;
+        }
+        droppedLogs.increment();
+        return FilterReply.DENY;
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+        if (getContext() instanceof LoggerContext context) {
+            context.getTurboFilterList().remove(this);
+        }
+    }
+}
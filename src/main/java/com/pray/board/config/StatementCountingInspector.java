@@ -0,0 +1,34 @@
+package com.pray.board.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문을 현재 스레드 기준으로 셉니다. (spring.jpa.properties.hibernate.session_factory.statement_inspector)
+ * <p>
+ * {@link StatementCountFilter} 가 요청 시작 시 {@link #start()}, 종료 시 {@link #stop()} 을 호출하여 요청당 문장 수를 기록합니다.
+ * SQL 은 바꾸지 않고 그대로 돌려줍니다. JdbcTemplate 으로 직접 실행하는 문장은 포함되지 않습니다.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /** 집계를 끝내고 start 이후 준비된 문장 수를 반환합니다. start 하지 않았다면 0 입니다. */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,75 @@
+package com.pray.board.config;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 가상 스레드 모드에서 캐리어 스레드 고정(pinning)을 JFR 의 jdk.VirtualThreadPinned 이벤트로 감시합니다.
+ * <p>
+ * threshold 이상 고정된 경우 상위 스택을 WARN 으로 남기고 board.virtual-threads.pinned 카운터를 올립니다.
+ * JDBC 드라이버/라이브러리 내부의 synchronized 블록이 원인인 경우가 많으므로 스택의 최상위 애플리케이션 프레임을 확인합니다.
+ * (JDK 21 미만에서는 이벤트가 없어 아무것도 기록되지 않습니다)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${board.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        this.pinnedCounter = Counter.builder("board.virtual-threads.pinned")
+                .description("캐리어 스레드에 고정된 가상 스레드 이벤트 수")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        String stack = event.getStackTrace() == null ? "(스택 없음)"
+                : event.getStackTrace().getFrames().stream()
+                        .limit(STACK_DEPTH)
+                        .map(VirtualThreadPinningMonitor::format)
+                        .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+        log.warn("가상 스레드가 {}ms 동안 캐리어 스레드에 고정되었습니다:{}", event.getDuration().toMillis(), stack);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.pray.board.controller;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.pray.board.dto.ActivityDto;
+import com.pray.board.dto.CursorSliceDto;
+import com.pray.board.service.ActivityService;
+
+@RestController
+@RequestMapping("/api/activity")
+public class ActivityController {
+
+    private final ActivityService activityService;
+
+    public ActivityController(ActivityService activityService) {
+        this.activityService = activityService;
+    }
+
+    // 작성자별 활동 피드: 게시글, 댓글, 좋아요/싫어요를 최신순으로 합칩니다.
+    // types=POST,COMMENT 처럼 종류를 골라 "내 글", "내 댓글", "내 반응" 만 볼 수도 있습니다.
+    @GetMapping
+    public ResponseEntity<CursorSliceDto<ActivityDto>> getActivity(
+            @RequestParam("author") String author,
+            @RequestParam(name = "types", required = false) String types,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        if (author.isBlank()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        int pageSize = Math.min(Math.max(size, 1), 50);
+        try {
+            CursorSliceDto<ActivityDto> slice = activityService.getActivity(author, parseTypes(types), cursor, pageSize);
+            return new ResponseEntity<>(slice, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static Set<String> parseTypes(String types) {
+        if (types == null || types.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(types.split(","))
+                .map(String::trim)
+                .filter(type -> !type.isEmpty())
+                .map(String::toUpperCase)
+                .collect(Collectors.toSet());
+    }
+}
@@ -1,25 +1,53 @@
 package com.pray.board.controller;
 
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.pray.board.dto.BoardImportDto;
 import com.pray.board.dto.BoardRequestDto;
 import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.dto.BoardSummaryDto;
+import com.pray.board.dto.BulkImportResultDto;
+import com.pray.board.dto.CursorSliceDto;
 import com.pray.board.dto.LikeRequestDto;
+import com.pray.board.dto.LikeResponseDto;
+import com.pray.board.dto.SliceDto;
 import com.pray.board.entity.Board;
+import com.pray.board.service.BoardEventHub;
+import com.pray.board.service.BoardImportService;
 import com.pray.board.service.BoardService;
+import com.pray.board.service.WriteRateLimiter;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 
 
 
@@ -28,23 +56,70 @@ import com.pray.board.service.BoardService;
 public class BoardController {
 
     private final BoardService boardService;
-
-    public BoardController(BoardService boardService) {
+    private final BoardImportService boardImportService;
+    private final BoardEventHub boardEventHub;
+    private final WriteRateLimiter writeRateLimiter;
+    private final ObjectReader boardImportReader;
+    private final int previewLength;
+
+    public BoardController(BoardService boardService, BoardImportService boardImportService, BoardEventHub boardEventHub,
+                           WriteRateLimiter writeRateLimiter, ObjectMapper objectMapper,
+                           @Value("${board.list.preview-length:120}") int previewLength) {
         this.boardService = boardService;
+        this.boardImportService = boardImportService;
+        this.boardEventHub = boardEventHub;
+        this.writeRateLimiter = writeRateLimiter;
+        this.boardImportReader = objectMapper.readerFor(BoardImportDto.class);
+        this.previewLength = previewLength;
     }
 
+    // 목록은 본문 대신 앞부분만 담은 요약(BoardSummaryDto)을, 페이지 정보는 PagedModel 의 page 객체로 간단히 내려보냅니다.
+    // fields=id,title,likeCount 처럼 필요한 속성만 고를 수 있습니다.
     @GetMapping
-    public ResponseEntity<Page<BoardResponseDto>> getAllBoards(
-            @PageableDefault(page = 0, size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<MappingJacksonValue> getAllBoards(
+            @PageableDefault(page = 0, size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(name = "fields", required = false) String fields) {
 
-        Page<BoardResponseDto> dtoPage = boardService.getAllBoards(pageable);
-        return new ResponseEntity<>(dtoPage, HttpStatus.OK);
+        Page<BoardSummaryDto> dtoPage = boardService.getAllBoards(pageable).map(this::summarize);
+        return new ResponseEntity<>(SparseFieldset.apply(new PagedModel<>(dtoPage), BoardSummaryDto.FIELDS_FILTER, fields),
+                HttpStatus.OK);
+    }
+    
+    // 커서 기반 목록: 전체 개수를 세지 않고 nextCursor 로 다음 페이지를 이어서 조회합니다. (sort = id | createdAt)
+    @GetMapping("/cursor")
+    public ResponseEntity<MappingJacksonValue> getBoardsByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "sort", defaultValue = "id") String sort,
+            @RequestParam(name = "fields", required = false) String fields) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        try {
+            CursorSliceDto<BoardSummaryDto> slice = boardService.getBoardsByCursor(cursor, pageSize, "createdAt".equals(sort))
+                    .map(this::summarize);
+            return new ResponseEntity<>(SparseFieldset.apply(slice, BoardSummaryDto.FIELDS_FILTER, fields), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
     
+    // 인기 게시글: 최근 좋아요/댓글에 시간 감쇠를 적용한 점수 순 (HotBoardRanker). 페이지 정보는 SliceDto 의 page 객체로 내려보냅니다.
+    @GetMapping("/hot")
+    public ResponseEntity<MappingJacksonValue> getHotBoards(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "fields", required = false) String fields) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        Slice<BoardSummaryDto> slice = boardService.getHotBoards(Math.max(page, 0), pageSize).map(this::summarize);
+        return new ResponseEntity<>(SparseFieldset.apply(new SliceDto<>(slice), BoardSummaryDto.FIELDS_FILTER, fields),
+                HttpStatus.OK);
+    }
+    
+    // 조건부 GET: 상세는 캐시에서 읽으므로 ETag 계산 비용이 거의 없습니다.
+    // If-None-Match 가 일치하면 Spring(HttpEntityMethodProcessor)이 본문을 직렬화하지 않고 304 로 응답합니다.
     @GetMapping("/{id}")    
     public ResponseEntity<BoardResponseDto> getBoardById(@PathVariable("id") Long id) {
         BoardResponseDto dto = boardService.getBoardById(id);
-        return new ResponseEntity<>(dto, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etagOf(dto)).body(dto);
     }
 
     @PostMapping
@@ -59,16 +134,33 @@ public class BoardController {
         return new ResponseEntity<>(new BoardResponseDto(savedBoard), HttpStatus.OK);
     }
 
-    @PutMapping("/{id}")
-    public ResponseEntity<BoardResponseDto> updateBoard(@PathVariable("id") Long id, @RequestBody BoardRequestDto boardRequestDto) {
-        Board existingBoard = boardService.getBoardEntityById(id);
-
-        existingBoard.setTitle(boardRequestDto.getTitle());
-        existingBoard.setContent(boardRequestDto.getContent());
-        existingBoard.setAuthor(boardRequestDto.getAuthor());
+    // 일괄 가져오기: JSON 배열 또는 NDJSON 을 스트림으로 읽어 청크 단위 배치 INSERT 로 저장합니다.
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<BulkImportResultDto> importBoards(HttpServletRequest request) throws IOException {
+        // 최상위가 배열이면 배열의 원소를, 아니면 줄 단위 값을 하나씩 읽습니다.
+        try (MappingIterator<BoardImportDto> boards = boardImportReader.readValues(request.getInputStream())) {
+            BulkImportResultDto result = boardImportService.importBoards(boards);
+            HttpStatus status = (result.getError() == null) ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+            return new ResponseEntity<>(result, status);
+        } catch (JsonProcessingException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
 
-        Board updatedBoard = boardService.saveBoard(existingBoard);
-        return new ResponseEntity<>(new BoardResponseDto(updatedBoard), HttpStatus.OK);
+    // 상세 조회의 ETag(또는 응답의 version)를 If-Match 로 보내면 그 버전일 때만 수정하고, 다르면 412 입니다.
+    // If-Match 없이 보낸 수정이 동시 수정과 겹치면 409 입니다. 어느 쪽이든 다시 조회한 뒤 재시도하면 됩니다.
+    @PutMapping("/{id}")
+    public ResponseEntity<BoardResponseDto> updateBoard(@PathVariable("id") Long id, @RequestBody BoardRequestDto boardRequestDto,
+                                                        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = IfMatch.expectedVersion(ifMatch);
+        try {
+            BoardResponseDto updated = boardService.updateBoard(id, boardRequestDto, expectedVersion);
+            return ResponseEntity.ok().eTag(etagOf(updated)).body(updated);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT);
+        }
     }
 
     @DeleteMapping("/{id}")
@@ -77,9 +169,43 @@ public class BoardController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    // 실시간 구독(SSE): 댓글 작성/수정/삭제와 좋아요 증감분을 이벤트로 받습니다. 전체 트리를 다시 읽을 필요가 없습니다.
+    @GetMapping(value = "/{boardId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable("boardId") Long boardId) {
+        try {
+            boardService.getBoardById(boardId);
+            return new ResponseEntity<>(boardEventHub.subscribe(boardId), HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
     @PostMapping("/{boardId}/likes")
-    public ResponseEntity<Void> toggleLike(@PathVariable Long boardId, @RequestBody LikeRequestDto requestDto) {
-        boardService.toggleLike(boardId, requestDto.getAuthor(), requestDto.getIsLike());
-        return new ResponseEntity<>(HttpStatus.OK);
+    public ResponseEntity<LikeResponseDto> toggleLike(@PathVariable Long boardId, @RequestBody LikeRequestDto requestDto) {
+        // 한도를 넘으면 트랜잭션을 열기 전에 429 로 돌려보냅니다.
+        long waitNanos = writeRateLimiter.acquireLike(boardId, requestDto.getAuthor());
+        if (waitNanos > 0) {
+            return RateLimitResponses.tooManyRequests(waitNanos);
+        }
+        try {
+            return new ResponseEntity<>(boardService.toggleLike(boardId, requestDto.getAuthor(), requestDto.getIsLike()), HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+    }
+
+    private BoardSummaryDto summarize(BoardResponseDto dto) {
+        return BoardSummaryDto.of(dto, previewLength);
+    }
+
+    // 버전(제목/내용 수정)과 카운터(미반영 좋아요 증감분 포함)가 모두 같을 때만 같은 값입니다.
+    // If-Match 에서는 버전 부분만 비교하므로(IfMatch) 좋아요가 바뀌어도 수정 조건은 깨지지 않습니다.
+    private static String etagOf(BoardResponseDto dto) {
+        return "b" + dto.getId() + IfMatch.VERSION_PREFIX + dto.getVersion() + "-"
+                + dto.getLikeCount() + "-" + dto.getDislikeCount() + "-" + dto.getCommentCount();
     }
 }
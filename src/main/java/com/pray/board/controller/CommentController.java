@@ -1,8 +1,14 @@
 package com.pray.board.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,12 +16,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import com.pray.board.dto.CommentRequestDto;
 import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.dto.CommentTreeFingerprint;
+import com.pray.board.dto.CursorSliceDto;
 import com.pray.board.service.CommentService;
+import com.pray.board.service.WriteRateLimiter;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
@@ -25,21 +44,124 @@ import jakarta.validation.Valid;
 public class CommentController {
 
     private final CommentService commentService;
+    private final WriteRateLimiter writeRateLimiter;
+    private final ObjectWriter ndjsonWriter;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, WriteRateLimiter writeRateLimiter, ObjectMapper objectMapper) {
         this.commentService = commentService;
+        this.writeRateLimiter = writeRateLimiter;
+        // 한 줄마다 flush 하지 않고 서블릿 출력 버퍼 단위로 내보내며, 응답 스트림은 닫지 않습니다.
+        this.ndjsonWriter = objectMapper.writerFor(CommentResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
     }
     
+    // 조건부 GET: If-None-Match 가 현재 트리와 같으면 집계 쿼리 한 번 후 트리를 조립하지 않고 304 로 응답합니다.
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getCommentsByBoardId(@PathVariable("boardId") Long boardId) {
-        List<CommentResponseDto> comments = commentService.getCommentsByBoardId(boardId);
-        return new ResponseEntity<>(comments, HttpStatus.OK);
+    public ResponseEntity<List<CommentResponseDto>> getCommentsByBoardId(@PathVariable("boardId") Long boardId, WebRequest request) {
+        try {
+            if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                    && request.checkNotModified(commentService.getCommentTreeETag(boardId))) {
+                return null;
+            }
+            List<CommentResponseDto> comments = commentService.getCommentsByBoardId(boardId);
+            // ETag 는 실제로 내려보내는 트리에서 계산합니다. (캐시된 트리와 DB 집계 사이의 짧은 불일치 방지)
+            return ResponseEntity.ok()
+                    .eTag(CommentTreeFingerprint.of(comments).toETag())
+                    .body(comments);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    // 최상위 댓글 페이지 + 댓글별 대댓글 replies 건 인라인
+    @GetMapping("/roots")
+    public ResponseEntity<CursorSliceDto<CommentResponseDto>> getRootComments(
+                @PathVariable("boardId") Long boardId,
+                @RequestParam(name = "cursor", required = false) String cursor,
+                @RequestParam(name = "size", defaultValue = "20") int size,
+                @RequestParam(name = "replies", defaultValue = "3") int replies) {
+        try {
+            CursorSliceDto<CommentResponseDto> slice =
+                    commentService.getRootComments(boardId, cursor, clamp(size, 1, 100), clamp(replies, 0, 20));
+            return new ResponseEntity<>(slice, HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // 특정 댓글의 대댓글 페이지 (repliesCursor 로 이어서 조회)
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CursorSliceDto<CommentResponseDto>> getReplies(
+                @PathVariable("boardId") Long boardId,
+                @PathVariable("commentId") Long commentId,
+                @RequestParam(name = "cursor", required = false) String cursor,
+                @RequestParam(name = "size", defaultValue = "20") int size,
+                @RequestParam(name = "replies", defaultValue = "0") int replies) {
+        try {
+            CursorSliceDto<CommentResponseDto> slice =
+                    commentService.getReplies(boardId, commentId, cursor, clamp(size, 1, 100), clamp(replies, 0, 20));
+            return new ResponseEntity<>(slice, HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // 특정 댓글을 루트로 하는 하위 트리 (path 범위 조회)
+    @GetMapping("/{commentId}/subtree")
+    public ResponseEntity<CommentResponseDto> getCommentSubtree(
+                @PathVariable("boardId") Long boardId,
+                @PathVariable("commentId") Long commentId) {
+        try {
+            return new ResponseEntity<>(commentService.getCommentSubtree(boardId, commentId), HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    // NDJSON 스트리밍: 댓글을 표시 순서대로 DB 커서에서 읽는 대로 한 줄씩 씁니다. (평면 구조, parentId 로 계층 복원)
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable("boardId") Long boardId) {
+        // 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 게시글 확인은 미리 합니다.
+        try {
+            commentService.requireBoard(boardId);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        StreamingResponseBody body = out -> {
+            AtomicBoolean written = new AtomicBoolean();
+            try (SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+                commentService.streamComments(boardId, comment -> {
+                    try {
+                        writer.write(comment);
+                        written.set(true);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            // 구분자는 줄 사이에만 들어가므로 마지막 줄만 끝맺습니다. 댓글이 없으면 빈 본문입니다. (빈 줄 없음)
+            if (written.get()) {
+                out.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @PostMapping
     public ResponseEntity<CommentResponseDto> createComment(
                 @PathVariable("boardId") Long boardId,
                 @Valid @RequestBody CommentRequestDto commentRequestDto) {
+        // 한도를 넘으면 트랜잭션을 열기 전에 429 로 돌려보냅니다.
+        long waitNanos = writeRateLimiter.acquireComment(boardId, commentRequestDto.getAuthor());
+        if (waitNanos > 0) {
+            return RateLimitResponses.tooManyRequests(waitNanos);
+        }
         CommentResponseDto createdComment = commentService.createComment(boardId, commentRequestDto);
         return new ResponseEntity<>(createdComment, HttpStatus.CREATED);
     }
@@ -48,14 +170,20 @@ public class CommentController {
     public ResponseEntity<CommentResponseDto> updateComment(
                 @PathVariable("boardId") Long boardId,
                 @PathVariable("commentId") Long commentId,
-                @Valid @RequestBody CommentRequestDto commentRequestDto) {
+                @Valid @RequestBody CommentRequestDto commentRequestDto,
+                @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        // If-Match 의 버전이 다르면 412, 없이 보낸 수정이 동시 수정과 겹치면 409 입니다.
+        Long expectedVersion = IfMatch.expectedVersion(ifMatch);
         try {
-            CommentResponseDto updatedComment = commentService.updateComment(commentId, commentRequestDto);
+            CommentResponseDto updatedComment =
+                    commentService.updateComment(boardId, commentId, commentRequestDto, expectedVersion);
             return new ResponseEntity<>(updatedComment, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         } catch (IllegalStateException e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT);
         }
     }
 
@@ -64,11 +192,18 @@ public class CommentController {
                 @PathVariable("boardId") Long boardId,
                 @PathVariable("commentId") Long commentId) {
         try {
-            commentService.deleteComment(commentId);
+            commentService.deleteComment(boardId, commentId);
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND); 
+        } catch (OptimisticLockingFailureException e) {
+            // 삭제와 수정이 겹친 경우
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
         }
 
     }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.min(Math.max(value, min), max);
+    }
 }
@@ -0,0 +1,42 @@
+package com.pray.board.controller;
+
+/**
+ * If-Match 헤더에서 수정 조건으로 쓸 버전을 꺼냅니다.
+ * <p>
+ * 게시글 상세의 ETag("b12-v3-5-0-2") 또는 응답 본문의 version 값("3")을 받습니다.
+ * 헤더가 없거나 * 이면 조건 없음(null)이고, 알아볼 수 없는 값(약한 ETag, 여러 값 등)은 어떤 버전과도 맞지 않는 -1 로 봅니다.
+ */
+final class IfMatch {
+
+    static final String VERSION_PREFIX = "-v";
+
+    private static final long NO_MATCH = -1;
+
+    private IfMatch() {
+    }
+
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        // If-Match 는 강한 비교만 하므로 약한 ETag 는 맞지 않습니다.
+        if (tag.startsWith("W/") || tag.contains(",")) {
+            return NO_MATCH;
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        int prefix = tag.indexOf(VERSION_PREFIX);
+        if (prefix >= 0) {
+            int start = prefix + VERSION_PREFIX.length();
+            int end = tag.indexOf('-', start);
+            tag = tag.substring(start, end < 0 ? tag.length() : end);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            return NO_MATCH;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.pray.board.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 요청 한도({@link com.pray.board.service.WriteRateLimiter})를 넘은 요청의 429 응답입니다.
+ */
+final class RateLimitResponses {
+
+    private RateLimitResponses() {
+    }
+
+    // Retry-After 는 초 단위이므로 올림하고, 최소 1초로 둡니다.
+    static <T> ResponseEntity<T> tooManyRequests(long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+                .build();
+    }
+}
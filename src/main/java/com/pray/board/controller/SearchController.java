@@ -0,0 +1,67 @@
+package com.pray.board.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.pray.board.dto.BoardSummaryDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.dto.SliceDto;
+import com.pray.board.service.SearchService;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final SearchService searchService;
+    private final int previewLength;
+
+    public SearchController(SearchService searchService,
+                            @Value("${board.list.preview-length:120}") int previewLength) {
+        this.searchService = searchService;
+        this.previewLength = previewLength;
+    }
+
+    // 게시글 제목/내용 검색: 관련도 순, 제목 일치가 내용 일치보다 앞에 옵니다. 목록과 같은 요약(fields= 지원)과 간단한 page 객체(SliceDto)로 응답합니다.
+    @GetMapping("/boards")
+    public ResponseEntity<MappingJacksonValue> searchBoards(
+            @RequestParam("q") String query,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "fields", required = false) String fields) {
+        if (query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Slice<BoardSummaryDto> result = searchService.searchBoards(query, Math.max(page, 0), clamp(size, 1, 50))
+                .map(dto -> BoardSummaryDto.of(dto, previewLength));
+        return new ResponseEntity<>(SparseFieldset.apply(new SliceDto<>(result), BoardSummaryDto.FIELDS_FILTER, fields),
+                HttpStatus.OK);
+    }
+
+    // 댓글 검색: boardId 를 주면 해당 게시글의 댓글에서만 찾습니다.
+    @GetMapping("/comments")
+    public ResponseEntity<SliceDto<CommentResponseDto>> searchComments(
+            @RequestParam("q") String query,
+            @RequestParam(name = "boardId", required = false) Long boardId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        if (query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Slice<CommentResponseDto> result =
+                searchService.searchComments(query, boardId, Math.max(page, 0), clamp(size, 1, 100));
+        return new ResponseEntity<>(new SliceDto<>(result), HttpStatus.OK);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.min(Math.max(value, min), max);
+    }
+}
@@ -0,0 +1,36 @@
+package com.pray.board.controller;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * 목록 응답의 {@code fields=id,title,likeCount} 파라미터를 해석합니다.
+ * 지정한 속성(과 항상 id)만 직렬화하며, 없는 속성 이름은 무시합니다. 페이지 정보 등 감싸는 객체에는 영향이 없습니다.
+ */
+final class SparseFieldset {
+
+    private SparseFieldset() {
+    }
+
+    static MappingJacksonValue apply(Object body, String filterId, String fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (fields == null || fields.isBlank()) {
+            return value;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        names.add("id");
+        value.setFilters(new SimpleFilterProvider()
+                .addFilter(filterId, SimpleBeanPropertyFilter.filterOutAllExcept(names))
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+        return value;
+    }
+}
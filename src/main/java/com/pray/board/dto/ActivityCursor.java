@@ -0,0 +1,38 @@
+package com.pray.board.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 활동 피드의 마지막 위치를 담는 불투명 커서입니다.
+ * 서로 다른 테이블의 id 는 비교할 수 없으므로 (createdAt, type, id) 를 함께 담습니다.
+ */
+public record ActivityCursor(LocalDateTime createdAt, String type, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static ActivityCursor of(ActivityDto activity) {
+        return new ActivityCursor(activity.createdAt(), activity.type(), activity.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + type + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 잘못된 커서는 IllegalArgumentException 으로 알립니다. */
+    public static ActivityCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new ActivityCursor(LocalDateTime.parse(parts[0]), parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
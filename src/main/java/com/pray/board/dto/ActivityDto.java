@@ -0,0 +1,15 @@
+package com.pray.board.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작성자별 활동 피드의 항목 하나입니다.
+ * type 은 POST(게시글), COMMENT(댓글), REACTION(좋아요/싫어요) 중 하나이며, id 는 해당 테이블의 id 입니다.
+ * summary 는 게시글/댓글 내용의 앞부분이고, 반응이면 LIKE 또는 DISLIKE 입니다.
+ */
+public record ActivityDto(String type, Long id, Long boardId, String boardTitle, String summary, LocalDateTime createdAt) {
+
+    public static final String POST = "POST";
+    public static final String COMMENT = "COMMENT";
+    public static final String REACTION = "REACTION";
+}
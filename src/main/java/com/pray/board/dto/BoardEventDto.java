@@ -0,0 +1,42 @@
+package com.pray.board.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 실시간 구독(SSE)으로 보내는 변경분입니다. SSE 이벤트 이름은 type 과 같습니다.
+ * 댓글 이벤트는 comment(삭제는 commentId)를, 좋아요 이벤트는 증감분을 담습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardEventDto {
+
+    public static final String COMMENT_CREATED = "comment-created";
+    public static final String COMMENT_UPDATED = "comment-updated";
+    public static final String COMMENT_DELETED = "comment-deleted";
+    public static final String LIKE_CHANGED = "like-changed";
+
+    private String type;
+    private Long boardId;
+    private CommentResponseDto comment;
+    private Long commentId;
+    private Long likeDelta;
+    private Long dislikeDelta;
+
+    public static BoardEventDto comment(String type, Long boardId, CommentResponseDto comment) {
+        return new BoardEventDto(type, boardId, comment, comment.getId(), null, null);
+    }
+
+    public static BoardEventDto commentDeleted(Long boardId, Long commentId) {
+        return new BoardEventDto(COMMENT_DELETED, boardId, null, commentId, null, null);
+    }
+
+    public static BoardEventDto likeChanged(Long boardId, long likeDelta, long dislikeDelta) {
+        return new BoardEventDto(LIKE_CHANGED, boardId, null, null, likeDelta, dislikeDelta);
+    }
+}
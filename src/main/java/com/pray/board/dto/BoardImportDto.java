@@ -0,0 +1,26 @@
+package com.pray.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일괄 가져오기용 게시글입니다. createdAt 을 주면 원래 작성 시각을 유지합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardImportDto {
+
+    private String title;
+    private String content;
+    private String author;
+    private LocalDateTime createdAt;
+    private List<CommentImportDto> comments = new ArrayList<>();
+}
@@ -2,6 +2,7 @@ package com.pray.board.dto;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.pray.board.entity.Board;
 
 import lombok.AllArgsConstructor;
@@ -14,7 +15,7 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BoardResponseDto {
 
     private Long id;
@@ -26,7 +27,16 @@ public class BoardResponseDto {
     private long likeCount;
     private long dislikeCount;
     private long commentCount;
-    
+
+    // 수정 시 If-Match 로 보낼 버전입니다. 엔티티에서 만든 응답(상세, 작성/수정 결과)에만 채워지고 목록 프로젝션에서는 빠집니다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
+    // 목록 프로젝션(JPQL 생성자 표현식)용 생성자
+    public BoardResponseDto(Long id, String title, String content, String author, LocalDateTime createdAt,
+                            LocalDateTime updatedAt, long likeCount, long dislikeCount, long commentCount) {
+        this(id, title, content, author, createdAt, updatedAt, likeCount, dislikeCount, commentCount, null);
+    }
 
     public BoardResponseDto(Board board) {
         this.id = board.getId();
@@ -35,6 +45,10 @@ public class BoardResponseDto {
         this.author = board.getAuthor();
         this.createdAt = board.getCreatedAt();
         this.updatedAt = board.getUpdatedAt();
+        this.likeCount = board.getLikeCount();
+        this.dislikeCount = board.getDislikeCount();
+        this.commentCount = board.getCommentCount();
+        this.version = board.getVersion();
     }
 
     public BoardResponseDto(Board board, long likeCount, long dislikeCount, long commentCount) {
@@ -47,5 +61,6 @@ public class BoardResponseDto {
         this.likeCount = likeCount;
         this.dislikeCount = dislikeCount;
         this.commentCount = commentCount;
+        this.version = board.getVersion();
     }
 }
@@ -0,0 +1,50 @@
+package com.pray.board.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 화면용 게시글 요약입니다. 본문 전체 대신 앞부분(preview)만 담고 수정 시각은 뺍니다.
+ * 요청의 fields 파라미터로 내려보낼 속성을 고를 수 있습니다. ({@link #FIELDS_FILTER})
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(BoardSummaryDto.FIELDS_FILTER)
+public class BoardSummaryDto {
+
+    /** 희소 필드(fields=) 선택에 쓰는 Jackson 필터 id 입니다. 지정이 없으면 모든 속성을 씁니다. (JacksonConfig) */
+    public static final String FIELDS_FILTER = "boardSummaryFields";
+
+    private Long id;
+    private String title;
+    private String preview;
+    private String author;
+    private LocalDateTime createdAt;
+    private long likeCount;
+    private long dislikeCount;
+    private long commentCount;
+
+    public static BoardSummaryDto of(BoardResponseDto board, int previewLength) {
+        return new BoardSummaryDto(board.getId(), board.getTitle(), preview(board.getContent(), previewLength),
+                board.getAuthor(), board.getCreatedAt(), board.getLikeCount(), board.getDislikeCount(),
+                board.getCommentCount());
+    }
+
+    // 앞뒤 공백을 걷어내고 maxCodePoints 글자(서로게이트 쌍을 자르지 않도록 코드 포인트 기준)까지만 남깁니다.
+    static String preview(String content, int maxCodePoints) {
+        if (content == null) {
+            return null;
+        }
+        String text = content.strip();
+        if (text.length() <= maxCodePoints || text.codePointCount(0, text.length()) <= maxCodePoints) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, maxCodePoints)) + "…";
+    }
+}
@@ -0,0 +1,24 @@
+package com.pray.board.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일괄 가져오기 결과입니다. 청크 단위로 커밋하므로 실패하더라도 그 전까지 반영된 건수를 함께 알려줍니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDto {
+
+    private long importedBoards;
+    private long importedComments;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+}
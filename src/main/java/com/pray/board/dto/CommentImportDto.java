@@ -0,0 +1,25 @@
+package com.pray.board.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일괄 가져오기용 댓글입니다. ref 는 같은 게시글 안에서만 유효한 임시 식별자이며,
+ * 대댓글은 parentRef 로 부모 댓글의 ref 를 가리킵니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentImportDto {
+
+    private String ref;
+    private String parentRef;
+    private String content;
+    private String author;
+    private LocalDateTime createdAt;
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.pray.board.entity.Comment;
 
 import lombok.AllArgsConstructor;
@@ -26,8 +27,22 @@ public class CommentResponseDto {
     private LocalDateTime updatedAt;
     private boolean deleted;
 
+    // 수정 시 If-Match 로 보낼 버전입니다. (검색 결과 등 버전을 읽지 않는 조회에서는 빠집니다)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
+    // 답글이 없는 댓글(대부분의 잎 노드)에는 빈 배열을 내려보내지 않습니다.
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private List<CommentResponseDto> children = new ArrayList<>();
 
+    // 페이지 단위 조회에서만 채워집니다: 대댓글 존재 여부와, 인라인으로 보여준 대댓글 이후를 이어서 읽을 커서
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasReplies;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String repliesCursor;
+
+    // 연관 엔티티(board, parent)는 LAZY 프록시이므로 식별자만 꺼내고 초기화하지 않습니다.
     public CommentResponseDto(Comment comment) {
         this.id = comment.getId();
         this.boardId = comment.getBoard().getId();
@@ -37,6 +52,26 @@ public class CommentResponseDto {
         this.createdAt = comment.getCreatedAt();
         this.updatedAt = comment.getUpdatedAt();
         this.deleted = (comment.getDeletedAt() != null);
+        this.version = comment.getVersion();
+    }
+
+    // 엔티티를 거치지 않는 프로젝션 조회(JPQL 생성자 표현식, JDBC)용 생성자
+    public CommentResponseDto(Long id, Long boardId, Long parentId, String content, String author,
+                              LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        this.id = id;
+        this.boardId = boardId;
+        this.parentId = parentId;
+        this.content = content;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deleted = (deletedAt != null);
+    }
+
+    public CommentResponseDto(Long id, Long boardId, Long parentId, String content, String author,
+                              LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt, Long version) {
+        this(id, boardId, parentId, content, author, createdAt, updatedAt, deletedAt);
+        this.version = version;
     }
 
     public boolean isDeleted() {
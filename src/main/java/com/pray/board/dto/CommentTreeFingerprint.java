@@ -0,0 +1,44 @@
+package com.pray.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 댓글 트리의 버전 식별값입니다. (댓글 수, 최대 id, 최대 updatedAt)
+ * <p>
+ * 댓글 작성은 수와 최대 id 를, 수정과 (소프트) 삭제는 updatedAt 을 바꾸므로 셋 중 하나라도 다르면 트리가 바뀐 것입니다.
+ * DB 집계(조건부 GET 판단)와 조립된 트리(응답 ETag) 양쪽에서 같은 값을 만들어,
+ * 캐시된 트리를 내려보낼 때도 본문과 ETag 가 어긋나지 않게 합니다.
+ */
+public record CommentTreeFingerprint(long count, Long maxId, LocalDateTime maxUpdatedAt) {
+
+    public static CommentTreeFingerprint of(List<CommentResponseDto> tree) {
+        long[] count = new long[1];
+        long[] maxId = { Long.MIN_VALUE };
+        LocalDateTime[] maxUpdatedAt = new LocalDateTime[1];
+        walk(tree, dto -> {
+            count[0]++;
+            maxId[0] = Math.max(maxId[0], dto.getId());
+            if (dto.getUpdatedAt() != null && (maxUpdatedAt[0] == null || dto.getUpdatedAt().isAfter(maxUpdatedAt[0]))) {
+                maxUpdatedAt[0] = dto.getUpdatedAt();
+            }
+        });
+        return new CommentTreeFingerprint(count[0], count[0] > 0 ? maxId[0] : null, maxUpdatedAt[0]);
+    }
+
+    /**
+     * 약한 ETag (W/"...") 입니다. 트리의 의미가 같으면 같은 값이므로 표현(압축 여부)까지 보장하는 강한 ETag 일 필요가 없고,
+     * 강한 ETag 가 붙은 응답은 Tomcat 이 gzip 압축하지 않기 때문에 약한 ETag 를 씁니다. (조건부 GET 은 약한 비교)
+     */
+    public String toETag() {
+        return "W/\"c" + count + "-" + (maxId != null ? maxId : 0) + "-" + (maxUpdatedAt != null ? maxUpdatedAt : "0") + "\"";
+    }
+
+    private static void walk(List<CommentResponseDto> nodes, Consumer<CommentResponseDto> visitor) {
+        for (CommentResponseDto node : nodes) {
+            visitor.accept(node);
+            walk(node.getChildren(), visitor);
+        }
+    }
+}
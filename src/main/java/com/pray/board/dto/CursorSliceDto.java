@@ -0,0 +1,38 @@
+package com.pray.board.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 키셋(커서) 기반 페이지 응답입니다. 전체 개수를 세지 않으며,
+ * 다음 페이지가 있으면 {@code nextCursor} 를 그대로 다음 요청의 cursor 파라미터로 넘기면 됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSliceDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    // size + 1 건을 조회한 결과로부터 다음 페이지 여부와 커서를 만듭니다.
+    public static <T> CursorSliceDto<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorSliceDto<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    // 커서와 다음 페이지 여부는 그대로 두고 내용만 바꿉니다. (응답용 요약 DTO 변환 등)
+    public <R> CursorSliceDto<R> map(Function<T, R> mapper) {
+        return new CursorSliceDto<>(content.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
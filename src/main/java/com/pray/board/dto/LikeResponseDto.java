@@ -0,0 +1,7 @@
+package com.pray.board.dto;
+
+/**
+ * 좋아요/싫어요 토글 이후의 상태입니다. state 는 LIKE, DISLIKE, NONE(취소됨) 중 하나입니다.
+ */
+public record LikeResponseDto(Long boardId, String author, String state) {
+}
@@ -0,0 +1,26 @@
+package com.pray.board.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.Getter;
+
+/**
+ * 전체 개수를 세지 않는 페이지(Slice) 응답입니다. 목록의 PagedModel 과 같은 모양으로 content 와 간단한 page 객체만 내려보내며,
+ * SliceImpl 을 그대로 직렬화할 때 함께 나가는 pageable/sort 등의 메타데이터는 뺍니다.
+ */
+@Getter
+public class SliceDto<T> {
+
+    private final List<T> content;
+    private final SliceMetadata page;
+
+    public SliceDto(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.page = new SliceMetadata(slice.getSize(), slice.getNumber(), slice.hasNext());
+    }
+
+    public record SliceMetadata(int size, int number, boolean hasNext) {
+    }
+}
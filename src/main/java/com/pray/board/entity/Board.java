@@ -1,17 +1,23 @@
 package com.pray.board.entity;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+
+import com.pray.board.search.SearchTokenizer;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.OneToMany;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +25,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(name = "board", indexes = @Index(name = "idx_board_author_created_at", columnList = "author, created_at, id"))
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,7 +35,9 @@ import lombok.Setter;
 public class Board {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 + pooled 할당(50개 단위): INSERT 전에 id 를 알 수 있어 JDBC 배치 INSERT 가 가능합니다. (IDENTITY 는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -39,21 +49,67 @@ public class Board {
     @Column(nullable = false)
     private String author;
 
+    // 비정규화 카운터: 엔티티 저장(update) 시 덮어쓰지 않도록 updatable = false 로 두고,
+    // 증감은 BoardRepository 의 원자적 UPDATE 문으로만 수행합니다.
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount = 0L;
+
     @Builder.Default
-    @OneToMany(mappedBy = "board", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true)
-    private List<BoardLikes> boardLikes = new ArrayList<>();
+    @ColumnDefault("0")
+    @Column(name = "dislike_count", nullable = false, updatable = false)
+    private long dislikeCount = 0L;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount = 0L;
+    
+    // 전문 검색용 토큰(SearchTokenizer): 저장할 때마다 제목/내용에서 다시 만듭니다.
+    // PostgreSQL 에서는 이 컬럼으로부터 가중치를 둔 search_vector(tsvector, GIN 색인)가 생성됩니다. (V3__search_vectors.sql)
+    @Column(name = "title_tokens", columnDefinition = "text")
+    private String titleTokens;
+
+    @Column(name = "content_tokens", columnDefinition = "text")
+    private String contentTokens;
     
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금: 제목/내용 수정마다 1씩 오릅니다. 카운터는 원자적 UPDATE 문으로만 바뀌므로 버전에 영향이 없습니다.
+    // If-Match 조건부 수정은 BoardRepository.updateIfVersion 이 같은 규칙으로 올립니다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // 삭제 표시 시각: 표시된 게시글은 조회에서 빠지고(@SQLRestriction), BoardPurgeWorker 가 나중에 지웁니다.
+    // 엔티티로는 바꾸지 않고 BoardRepository.tombstone 으로만 설정합니다.
+    @Column(name = "deleted_at", updatable = false, insertable = false)
+    private LocalDateTime deletedAt;
+
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        refreshSearchTokens();
+        // 일괄 가져오기(이관)에서는 원래 작성 시각을 유지합니다.
+        LocalDateTime now = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = now;
+        }
+        if (this.updatedAt == null) {
+            this.updatedAt = this.createdAt;
+        }
     }
 
     @PreUpdate
     public void preUdate() {
         this.updatedAt = LocalDateTime.now();
-    }    
+        refreshSearchTokens();
+    }
+
+    private void refreshSearchTokens() {
+        this.titleTokens = SearchTokenizer.indexTokens(this.title);
+        this.contentTokens = SearchTokenizer.indexTokens(this.content);
+    }
 }
@@ -8,10 +8,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +21,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "board_likes")
+// 스키마는 db/migration(V4, V6) 이 만들며, 여기 선언은 테스트(H2) 스키마와 문서화를 위한 것입니다.
+@Table(name = "board_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_board_likes_board_author", columnNames = { "board_id", "author" }),
+        indexes = {
+                @Index(name = "idx_board_likes_board_is_like", columnList = "board_id, is_like"),
+                @Index(name = "idx_board_likes_author_created_at", columnList = "author, created_at, id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
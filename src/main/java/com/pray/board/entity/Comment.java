@@ -4,19 +4,24 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OptimisticLock;
+
+import com.pray.board.search.SearchTokenizer;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,16 +29,27 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_board_path", columnList = "board_id, path"),
+        @Index(name = "idx_comments_board_created_at", columnList = "board_id, created_at, id"),
+        @Index(name = "idx_comments_parent_created_at", columnList = "parent_id, created_at, id"),
+        @Index(name = "idx_comments_author_created_at", columnList = "author, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Comment {
+
+    // 경로 한 단계의 길이: Long 최댓값의 자릿수(19)만큼 0 으로 채운 id
+    public static final int PATH_SEGMENT_LENGTH = 19;
+    public static final int PATH_MAX_LENGTH = 1900;
     
     @Id
-    @GeneratedValue( strategy = GenerationType.IDENTITY )
+    // 시퀀스 + pooled 할당(50개 단위): INSERT 전에 id 를 알 수 있어 JDBC 배치 INSERT 가 가능합니다. (IDENTITY 는 배치 불가)
+    // 미리 받아 둔 id(CommentRepository.nextId)로 저장할 수도 있습니다.
+    @CommentIdGenerator.Sequence
     private Long id;
 
     @ManyToOne( fetch = FetchType.LAZY )
@@ -44,7 +60,9 @@ public class Comment {
     @JoinColumn( name = "parent_id" )
     private Comment parent;
 
+    // 답글이 달려도 부모 댓글의 버전은 그대로 둡니다.
     @OneToMany( mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private List<Comment> children = new ArrayList<>();
 
@@ -54,19 +72,50 @@ public class Comment {
     @Column(nullable = false)
     private String author;
 
+    // 구체화 경로(materialized path): 루트부터 자신까지의 id 세그먼트를 이어 붙인 값입니다.
+    // 세그먼트가 고정 길이이므로 path 로 정렬하면 부모 다음에 자식이, 형제끼리는 id 순으로 놓입니다.
+    // id 는 comments_seq 에서 하나씩 받으므로(CommentIdGenerator) 여러 노드에서도 id 순이 곧 작성 순입니다.
+    // 작성 직후 id 로 채우는 내부 값이므로 버전을 올리지 않습니다.
+    @Column(length = PATH_MAX_LENGTH)
+    @OptimisticLock(excluded = true)
+    private String path;
+
+    // 전문 검색용 토큰(SearchTokenizer): 삭제된 댓글은 빈 값으로 두어 검색되지 않게 합니다.
+    // PostgreSQL 에서는 이 컬럼으로부터 search_vector(tsvector, GIN 색인)가 생성됩니다. (V3__search_vectors.sql)
+    @Column(name = "search_tokens", columnDefinition = "text")
+    private String searchTokens;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
 
+    // 낙관적 잠금: 내용 수정과 삭제마다 1씩 오릅니다. If-Match 조건부 수정은 CommentRepository.updateIfVersion 이 올립니다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        refreshSearchTokens();
+        // 일괄 가져오기(이관)에서는 원래 작성 시각을 유지합니다.
+        LocalDateTime now = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = now;
+        }
+        if (this.updatedAt == null) {
+            this.updatedAt = this.createdAt;
+        }
     }
 
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        refreshSearchTokens();
+    }
+
+    private void refreshSearchTokens() {
+        this.searchTokens = (this.deletedAt != null) ? "" : SearchTokenizer.indexTokens(this.content);
     }
 
     public void markAsDeleted() {
@@ -74,6 +123,19 @@ public class Comment {
         this.content = "삭제된 댓글입니다.";
     }
 
+    public static String pathSegment(Long id) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+    }
+
+    public static String childPath(String parentPath, Long id) {
+        return (parentPath != null ? parentPath : "") + pathSegment(id);
+    }
+
+    // 하위 트리 범위 조회의 상한값: 세그먼트는 숫자로만 이루어지므로 'a' 는 모든 후손 경로보다 뒤에 정렬됩니다.
+    public static String subtreeUpperBound(String path) {
+        return path + "a";
+    }
+
     public void addChildComment(Comment child) {
         this.children.add(child);
         child.setParent(this);
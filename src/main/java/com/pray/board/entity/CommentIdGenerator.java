@@ -0,0 +1,56 @@
+package com.pray.board.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Properties;
+
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * 댓글 id 생성기: comments_seq 에서 하나씩 받되, 저장 전에 미리 받아 둔 id 가 있으면 그대로 씁니다.
+ * <p>
+ * 댓글의 path 는 자신의 id 로 끝나므로, id 를 먼저 받아 path 까지 채운 뒤 persist 하면 INSERT 한 번으로 끝납니다.
+ * (persist 후에 path 를 채우면 같은 행에 UPDATE 가 한 번 더 나갑니다)
+ * <p>
+ * 블록 단위(pooled)로 받지 않는 이유: 노드마다 따로 받은 블록의 id 가 서로 섞여, 형제 댓글의 path 순서(id 순)가
+ * 작성 순서와 어긋납니다. (/roots 는 createdAt 순이라 트리 순서와 달라집니다) 댓글 하나에 nextval 한 번이 더 들지만,
+ * 작성은 조회보다 훨씬 드물고 INSERT 를 묶는 데에는 지장이 없습니다. (id 를 INSERT 전에 받으므로)
+ */
+public class CommentIdGenerator extends SequenceStyleGenerator {
+
+    public static final String SEQUENCE_NAME = "comments_seq";
+    public static final int ALLOCATION_SIZE = 1;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        parameters.put(SEQUENCE_PARAM, SEQUENCE_NAME);
+        parameters.put(INCREMENT_PARAM, Integer.toString(ALLOCATION_SIZE));
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (object instanceof Comment comment && comment.getId() != null) {
+            return comment.getId();
+        }
+        return super.generate(session, object);
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    /** 댓글 id 필드에 {@link CommentIdGenerator} 를 지정합니다. */
+    @IdGeneratorType(CommentIdGenerator.class)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.FIELD, ElementType.METHOD })
+    public @interface Sequence {
+    }
+}
@@ -0,0 +1,7 @@
+package com.pray.board.event;
+
+/**
+ * 게시글에 삭제 표시를 했을 때 발행됩니다. 커밋 후 BoardPurgeWorker 가 정리를 시작합니다.
+ */
+public record BoardDeletedEvent(Long boardId) {
+}
@@ -0,0 +1,8 @@
+package com.pray.board.event;
+
+/**
+ * 좋아요/싫어요 토글로 게시글의 카운트가 바뀌었을 때 발행됩니다. 증감분은 -1, 0, 1 중 하나입니다.
+ * 버퍼 모드에서는 DB 반영(flush) 전, 토글을 받은 시점에 발행됩니다.
+ */
+public record BoardLikeChangedEvent(Long boardId, long likeDelta, long dislikeDelta) {
+}
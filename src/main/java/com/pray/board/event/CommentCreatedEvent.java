@@ -0,0 +1,9 @@
+package com.pray.board.event;
+
+import com.pray.board.dto.CommentResponseDto;
+
+/**
+ * 댓글(대댓글 포함)이 작성되었을 때 발행됩니다. comment 는 응답과 같은 내용입니다.
+ */
+public record CommentCreatedEvent(Long boardId, CommentResponseDto comment) {
+}
@@ -0,0 +1,7 @@
+package com.pray.board.event;
+
+/**
+ * 댓글이 (소프트) 삭제되었을 때 발행됩니다. 이미 삭제된 댓글을 다시 삭제하면 발행되지 않습니다.
+ */
+public record CommentDeletedEvent(Long boardId, Long commentId) {
+}
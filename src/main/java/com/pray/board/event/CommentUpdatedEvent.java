@@ -0,0 +1,9 @@
+package com.pray.board.event;
+
+import com.pray.board.dto.CommentResponseDto;
+
+/**
+ * 댓글 내용/작성자가 수정되었을 때 발행됩니다.
+ */
+public record CommentUpdatedEvent(Long boardId, CommentResponseDto comment) {
+}
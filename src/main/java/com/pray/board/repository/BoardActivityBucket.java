@@ -0,0 +1,19 @@
+package com.pray.board.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 시간 단위 활동 집계(좋아요/싫어요/댓글 수) 프로젝션입니다. 인기 게시글 순위 재구성에 사용합니다.
+ */
+public interface BoardActivityBucket {
+
+    Long getBoardId();
+
+    LocalDateTime getBucket();
+
+    long getLikes();
+
+    long getDislikes();
+
+    long getComments();
+}
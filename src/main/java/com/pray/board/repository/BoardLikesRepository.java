@@ -1,19 +1,103 @@
 package com.pray.board.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.pray.board.dto.ActivityDto;
 import com.pray.board.entity.BoardLikes;
 
 @Repository
 public interface BoardLikesRepository extends JpaRepository<BoardLikes, Long> {
 
+    /** {@link #toggle} 결과: 새로 추가됨 */
+    String TOGGLE_INSERTED = "INSERTED";
+    /** {@link #toggle} 결과: 반대 값에서 바뀜 */
+    String TOGGLE_FLIPPED = "FLIPPED";
+    /** {@link #toggle} 결과: 같은 값을 다시 눌러 취소됨 */
+    String TOGGLE_DELETED = "DELETED";
+
     Optional<BoardLikes> findByBoardIdAndAuthor(Long boardId, String author);
     
     @Query("SELECT COUNT(l) FROM BoardLikes l WHERE l.board.id = :boardId AND l.isLike = :isLike")
     long countByBoardIdAndIsLike(@Param("boardId") Long boardId, @Param("isLike") boolean isLike);
+
+    // 작성자별 활동 피드(내 반응): author 로 좁힌 (createdAt, id) 역순 키셋입니다. (idx_board_likes_author_created_at)
+    // 삭제 표시된 게시글에 남은 반응은 제외합니다.
+    @Query("SELECT new com.pray.board.dto.ActivityDto("
+            + "'REACTION', l.id, b.id, b.title, CASE WHEN l.isLike = true THEN 'LIKE' ELSE 'DISLIKE' END, l.createdAt) "
+            + "FROM BoardLikes l JOIN l.board b WHERE l.author = :author AND b.deletedAt IS NULL "
+            + "ORDER BY l.createdAt DESC, l.id DESC")
+    List<ActivityDto> findActivityByAuthor(@Param("author") String author, Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.ActivityDto("
+            + "'REACTION', l.id, b.id, b.title, CASE WHEN l.isLike = true THEN 'LIKE' ELSE 'DISLIKE' END, l.createdAt) "
+            + "FROM BoardLikes l JOIN l.board b WHERE l.author = :author AND b.deletedAt IS NULL "
+            + "AND (l.createdAt, l.id) < (:createdAt, :id) "
+            + "ORDER BY l.createdAt DESC, l.id DESC")
+    List<ActivityDto> findActivityByAuthorAfter(@Param("author") String author,
+                                                @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * 좋아요/싫어요 토글과 게시글 카운터 갱신을 한 문장(한 번의 왕복)으로 처리합니다. (PostgreSQL 전용)
+     * <p>
+     * (board_id, author) 유일 키에 대한 INSERT ... ON CONFLICT 로 추가하거나 반대 값을 뒤집고,
+     * 같은 값이 이미 있어 아무것도 바뀌지 않았다면 그 행을 지웁니다. 충돌한 행은 같은 문장 안에서 잠기므로
+     * 같은 작성자의 동시 토글은 행 잠금 순서대로 하나씩 적용됩니다.
+     * <p>
+     * 결과는 TOGGLE_* 중 하나이며, 이 문장의 스냅샷 이후에 다른 트랜잭션이 커밋한 행과 겹쳐
+     * 아무것도 적용하지 못했다면 null 입니다. (이때는 다시 실행하면 새 스냅샷에서 적용됩니다)
+     * 게시글이 없거나 삭제 표시되어 있어도 아무것도 하지 않고 null 입니다.
+     * 결과를 서비스의 상태/증감분으로 바꾸는 규칙은 BoardService.toggleResult 와 같습니다. (outcome CTE)
+     * <p>
+     * 쓰기 문장이지만 결과 행을 돌려받아야 하므로 @Modifying(executeUpdate, 건수만 반환)을 붙이지 않고 조회로 실행합니다.
+     * 그래서 저장소 기본값(읽기 전용)을 쓰지 않도록 @Transactional 로 쓰기 트랜잭션을 지정하며,
+     * 영속성 컨텍스트에 올라온 Board/BoardLikes 는 갱신되지 않으므로 호출 측에서 다시 읽지 않습니다. (상세 캐시는 evict)
+     * 작성 시각은 다른 쓰기와 같이 애플리케이션 시계로 넘깁니다. (DB 의 now() 를 쓰지 않음)
+     */
+    @Query(value = """
+            WITH upserted AS (
+                INSERT INTO board_likes AS l (board_id, author, is_like, created_at)
+                SELECT :boardId, :author, :isLike, :createdAt
+                WHERE EXISTS (SELECT 1 FROM board WHERE id = :boardId AND deleted_at IS NULL)
+                ON CONFLICT (board_id, author) DO UPDATE SET is_like = EXCLUDED.is_like
+                    WHERE l.is_like <> EXCLUDED.is_like
+                RETURNING (l.xmax = 0) AS inserted
+            ), deleted AS (
+                DELETE FROM board_likes l
+                WHERE l.board_id = :boardId AND l.author = :author AND l.is_like = :isLike
+                  AND NOT EXISTS (SELECT 1 FROM upserted)
+                  AND EXISTS (SELECT 1 FROM board WHERE id = :boardId AND deleted_at IS NULL)
+                RETURNING l.id
+            ), outcome AS (
+                SELECT CASE WHEN u.inserted THEN 'INSERTED' ELSE 'FLIPPED' END AS result,
+                       CASE WHEN :isLike THEN 1 WHEN u.inserted THEN 0 ELSE -1 END AS like_delta,
+                       CASE WHEN NOT :isLike THEN 1 WHEN u.inserted THEN 0 ELSE -1 END AS dislike_delta
+                FROM upserted u
+                UNION ALL
+                SELECT 'DELETED',
+                       CASE WHEN :isLike THEN -1 ELSE 0 END,
+                       CASE WHEN :isLike THEN 0 ELSE -1 END
+                FROM deleted
+            ), counted AS (
+                UPDATE board b
+                SET like_count = b.like_count + o.like_delta,
+                    dislike_count = b.dislike_count + o.dislike_delta
+                FROM outcome o
+                WHERE b.id = :boardId
+                RETURNING b.id
+            )
+            SELECT result FROM outcome
+            """, nativeQuery = true)
+    @Transactional
+    String toggle(@Param("boardId") Long boardId, @Param("author") String author, @Param("isLike") boolean isLike,
+                  @Param("createdAt") LocalDateTime createdAt);
 }
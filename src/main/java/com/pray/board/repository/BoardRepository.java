@@ -1,11 +1,158 @@
 package com.pray.board.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.pray.board.dto.ActivityDto;
+import com.pray.board.dto.BoardResponseDto;
 import com.pray.board.entity.Board;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
-    
+
+    // 목록 조회용 프로젝션: 비정규화된 카운터 컬럼을 그대로 읽으므로 페이지당 쿼리 1회(+count 1회)로 끝납니다.
+    // Pageable의 정렬 조건은 별칭 b 기준으로 그대로 적용됩니다.
+    @Query(value = "SELECT new com.pray.board.dto.BoardResponseDto("
+            + "b.id, b.title, b.content, b.author, b.createdAt, b.updatedAt, "
+            + "b.likeCount, b.dislikeCount, b.commentCount) "
+            + "FROM Board b",
+           countQuery = "SELECT COUNT(b) FROM Board b")
+    Page<BoardResponseDto> findAllWithCounts(Pageable pageable);
+
+    // 키셋(커서) 페이지네이션: OFFSET/COUNT 없이 마지막 위치 다음부터 읽으므로 몇 번째 페이지든 비용이 같습니다.
+    // 호출 측에서 Pageable 로 size + 1 건만 제한하여 다음 페이지 여부를 판단합니다.
+    @Query("SELECT new com.pray.board.dto.BoardResponseDto("
+            + "b.id, b.title, b.content, b.author, b.createdAt, b.updatedAt, b.likeCount, b.dislikeCount, b.commentCount) "
+            + "FROM Board b ORDER BY b.id DESC")
+    List<BoardResponseDto> findSliceOrderById(Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.BoardResponseDto("
+            + "b.id, b.title, b.content, b.author, b.createdAt, b.updatedAt, b.likeCount, b.dislikeCount, b.commentCount) "
+            + "FROM Board b WHERE b.id < :id ORDER BY b.id DESC")
+    List<BoardResponseDto> findSliceOrderByIdAfter(@Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.BoardResponseDto("
+            + "b.id, b.title, b.content, b.author, b.createdAt, b.updatedAt, b.likeCount, b.dislikeCount, b.commentCount) "
+            + "FROM Board b ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardResponseDto> findSliceOrderByCreatedAt(Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.BoardResponseDto("
+            + "b.id, b.title, b.content, b.author, b.createdAt, b.updatedAt, b.likeCount, b.dislikeCount, b.commentCount) "
+            + "FROM Board b WHERE (b.createdAt, b.id) < (:createdAt, :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardResponseDto> findSliceOrderByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // id 목록으로 조회합니다. 순서는 보장하지 않으므로 호출 측에서 정렬합니다.
+    @Query("SELECT new com.pray.board.dto.BoardResponseDto("
+            + "b.id, b.title, b.content, b.author, b.createdAt, b.updatedAt, b.likeCount, b.dislikeCount, b.commentCount) "
+            + "FROM Board b WHERE b.id IN :ids")
+    List<BoardResponseDto> findAllWithCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 작성자별 활동 피드(내 글): author 로 좁힌 (createdAt, id) 역순 키셋입니다. (idx_board_author_created_at)
+    // 본문은 앞부분 summaryLength 글자만 읽습니다.
+    @Query("SELECT new com.pray.board.dto.ActivityDto("
+            + "'POST', b.id, b.id, b.title, SUBSTRING(b.content, 1, :summaryLength), b.createdAt) "
+            + "FROM Board b WHERE b.author = :author ORDER BY b.createdAt DESC, b.id DESC")
+    List<ActivityDto> findActivityByAuthor(@Param("author") String author, @Param("summaryLength") int summaryLength,
+                                           Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.ActivityDto("
+            + "'POST', b.id, b.id, b.title, SUBSTRING(b.content, 1, :summaryLength), b.createdAt) "
+            + "FROM Board b WHERE b.author = :author AND (b.createdAt, b.id) < (:createdAt, :id) "
+            + "ORDER BY b.createdAt DESC, b.id DESC")
+    List<ActivityDto> findActivityByAuthorAfter(@Param("author") String author, @Param("summaryLength") int summaryLength,
+                                                @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                Pageable pageable);
+
+    // since 이후의 좋아요/싫어요(현재 상태 기준)와 댓글을 게시글·시간 단위로 집계합니다. 인기 순위 재구성용입니다.
+    // 삭제 표시된 게시글의 행은 정리되기 전이라도 집계하지 않습니다.
+    @Query(value = "SELECT board_id AS boardId, date_trunc('hour', created_at) AS bucket, "
+            + "SUM(CASE WHEN is_like THEN 1 ELSE 0 END) AS likes, SUM(CASE WHEN is_like THEN 0 ELSE 1 END) AS dislikes, 0 AS comments "
+            + "FROM board_likes WHERE created_at >= :since "
+            + "AND board_id NOT IN (SELECT id FROM board WHERE deleted_at IS NOT NULL) GROUP BY board_id, date_trunc('hour', created_at) "
+            + "UNION ALL "
+            + "SELECT board_id AS boardId, date_trunc('hour', created_at) AS bucket, 0 AS likes, 0 AS dislikes, COUNT(*) AS comments "
+            + "FROM comments WHERE created_at >= :since AND deleted_at IS NULL "
+            + "AND board_id NOT IN (SELECT id FROM board WHERE deleted_at IS NOT NULL) GROUP BY board_id, date_trunc('hour', created_at)",
+           nativeQuery = true)
+    List<BoardActivityBucket> findActivitySince(@Param("since") LocalDateTime since);
+
+    // 카운터 증감은 읽기-수정-쓰기 없이 DB에서 원자적으로 처리합니다. 반환값은 갱신된 행 수입니다.
+    @Modifying
+    @Query(value = "UPDATE board SET like_count = like_count + :likeDelta, dislike_count = dislike_count + :dislikeDelta "
+            + "WHERE id = :boardId", nativeQuery = true)
+    int addLikeCounts(@Param("boardId") Long boardId, @Param("likeDelta") long likeDelta, @Param("dislikeDelta") long dislikeDelta);
+
+    // 삭제 표시된 게시글에는 댓글을 달 수 없도록 0건을 반환합니다.
+    @Modifying
+    @Query(value = "UPDATE board SET comment_count = comment_count + :delta WHERE id = :boardId AND deleted_at IS NULL",
+           nativeQuery = true)
+    int addCommentCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
+    // If-Match 조건부 수정: 미리 읽지 않고 버전이 같을 때만 바꾸며 버전을 올립니다. 0 이면 없거나 버전이 다릅니다.
+    // 엔티티 콜백(@PreUpdate)을 거치지 않으므로 검색 토큰과 수정 시각은 호출 측에서 넘깁니다.
+    @Modifying
+    @Query(value = "UPDATE board SET title = :title, content = :content, author = :author, "
+            + "title_tokens = :titleTokens, content_tokens = :contentTokens, updated_at = :now, version = version + 1 "
+            + "WHERE id = :id AND version = :version AND deleted_at IS NULL", nativeQuery = true)
+    int updateIfVersion(@Param("id") Long id, @Param("version") long version,
+                        @Param("title") String title, @Param("content") String content, @Param("author") String author,
+                        @Param("titleTokens") String titleTokens, @Param("contentTokens") String contentTokens,
+                        @Param("now") LocalDateTime now);
+
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM Board b")
+    long findMaxId();
+
+    // 재계산 전에 구간의 게시글 행을 id 순으로 잠급니다. (BoardCounterReconciler)
+    @Query(value = "SELECT id FROM board WHERE id BETWEEN :fromId AND :toId ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 원본 테이블(board_likes, comments)로부터 id 구간 단위로 카운터를 다시 계산합니다.
+    @Modifying
+    @Query(value = "UPDATE board b SET "
+            + "like_count = (SELECT COUNT(*) FROM board_likes l WHERE l.board_id = b.id AND l.is_like = true), "
+            + "dislike_count = (SELECT COUNT(*) FROM board_likes l WHERE l.board_id = b.id AND l.is_like = false), "
+            + "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.board_id = b.id AND c.deleted_at IS NULL) "
+            + "WHERE b.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int reconcileCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 게시글 삭제: 삭제 표시만 합니다. 좋아요/댓글과 게시글 행은 BoardPurgeWorker 가 아래 쿼리로 나누어 지웁니다.
+    @Modifying
+    @Query(value = "UPDATE board SET deleted_at = :now WHERE id = :boardId AND deleted_at IS NULL", nativeQuery = true)
+    int tombstone(@Param("boardId") Long boardId, @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT id FROM board WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id", nativeQuery = true)
+    List<Long> findTombstonedIds();
+
+    @Modifying
+    @Query(value = "DELETE FROM board_likes WHERE id IN "
+            + "(SELECT id FROM board_likes WHERE board_id = :boardId LIMIT :limit)", nativeQuery = true)
+    int purgeLikes(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    // 자식 댓글의 path 는 부모 path 로 시작하여 더 뒤에 정렬되므로, path 역순으로 chunk 를 고르면 남는 댓글이 지운 댓글을 참조하지 않습니다.
+    // 다만 H2 처럼 한 문장 안에서도 행마다 FK 를 검사하는 DB 를 위해, 같은 트랜잭션에서 chunk 안의 부모 참조를 먼저 끊습니다.
+    @Modifying
+    @Query(value = "UPDATE comments SET parent_id = NULL WHERE id IN "
+            + "(SELECT id FROM comments WHERE board_id = :boardId ORDER BY path DESC LIMIT :limit)", nativeQuery = true)
+    int detachCommentChunk(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE id IN "
+            + "(SELECT id FROM comments WHERE board_id = :boardId ORDER BY path DESC LIMIT :limit)", nativeQuery = true)
+    int purgeComments(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    // 정리 도중 새로 들어온 좋아요/댓글이 남아 있으면 지우지 않고 0건을 반환합니다. (다음 실행에서 다시 정리)
+    @Modifying
+    @Query(value = "DELETE FROM board b WHERE b.id = :boardId AND b.deleted_at IS NOT NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM board_likes l WHERE l.board_id = b.id) "
+            + "AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.board_id = b.id)", nativeQuery = true)
+    int purgeBoard(@Param("boardId") Long boardId);
 }
@@ -1,14 +1,24 @@
 package com.pray.board.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.pray.board.dto.ActivityDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.dto.CommentTreeFingerprint;
 import com.pray.board.entity.Comment;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
     // 1. 'board' 엔티티 내부의 'id'를 명확히 지정합니다: findByBoard_Id
     List<Comment> findByBoardIdAndParentIsNullOrderByCreatedAtAsc(Long boardId);
 
@@ -17,4 +27,95 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByBoardIdOrderByCreatedAtAsc(Long boardId); // <-- 여기도 변경하는 게 안전합니다.
 
     long countByBoardId(Long boardId);
+
+    // 게시글 전체 댓글을 표시 순서(path 순)대로 DTO 로 바로 조회합니다. (board_id, path) 인덱스 범위 스캔
+    // 삭제 표시된 게시글의 댓글은 읽지 않습니다. 결과가 비면 게시글이 없는 것인지 호출 측에서 확인합니다.
+    @Query("SELECT new com.pray.board.dto.CommentResponseDto("
+            + "c.id, c.board.id, c.parent.id, c.content, c.author, c.createdAt, c.updatedAt, c.deletedAt, c.version) "
+            + "FROM Comment c JOIN c.board b WHERE b.id = :boardId AND b.deletedAt IS NULL ORDER BY c.path ASC")
+    List<CommentResponseDto> findTreeRowsByBoardId(@Param("boardId") Long boardId);
+
+    // 트리를 조립하지 않고 변경 여부만 판단하는 집계입니다. (조건부 GET)
+    // 게시글에서 출발하므로 게시글이 없거나 삭제 표시되었으면 행이 없어 null 입니다. (댓글이 없으면 count 0)
+    @Query("SELECT new com.pray.board.dto.CommentTreeFingerprint(COUNT(c), MAX(c.id), MAX(c.updatedAt)) "
+            + "FROM Board b LEFT JOIN Comment c ON c.board = b "
+            + "WHERE b.id = :boardId AND b.deletedAt IS NULL GROUP BY b.id")
+    CommentTreeFingerprint findTreeFingerprint(@Param("boardId") Long boardId);
+
+    // 특정 댓글과 그 하위 댓글 전체를 표시 순서대로 조회합니다. [path, upperBound) 범위 스캔
+    @Query("SELECT new com.pray.board.dto.CommentResponseDto("
+            + "c.id, c.board.id, c.parent.id, c.content, c.author, c.createdAt, c.updatedAt, c.deletedAt, c.version) "
+            + "FROM Comment c WHERE c.board.id = :boardId AND c.path >= :path AND c.path < :upperBound "
+            + "ORDER BY c.path ASC")
+    List<CommentResponseDto> findSubtreeRows(@Param("boardId") Long boardId,
+                                             @Param("path") String path,
+                                             @Param("upperBound") String upperBound);
+
+    @Query("SELECT c.path FROM Comment c WHERE c.id = :id AND c.board.id = :boardId")
+    Optional<String> findPathByIdAndBoardId(@Param("id") Long id, @Param("boardId") Long boardId);
+
+    // 페이지 단위 댓글 조회: (createdAt, id) 키셋으로 탐색하며 엔티티 대신 DTO 를 바로 만듭니다.
+    @Query("SELECT new com.pray.board.dto.CommentResponseDto("
+            + "c.id, c.board.id, c.parent.id, c.content, c.author, c.createdAt, c.updatedAt, c.deletedAt, c.version) "
+            + "FROM Comment c WHERE c.board.id = :boardId AND c.parent IS NULL "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponseDto> findRootSlice(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.CommentResponseDto("
+            + "c.id, c.board.id, c.parent.id, c.content, c.author, c.createdAt, c.updatedAt, c.deletedAt, c.version) "
+            + "FROM Comment c WHERE c.board.id = :boardId AND c.parent IS NULL "
+            + "AND (c.createdAt, c.id) > (:createdAt, :id) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponseDto> findRootSliceAfter(@Param("boardId") Long boardId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.CommentResponseDto("
+            + "c.id, c.board.id, c.parent.id, c.content, c.author, c.createdAt, c.updatedAt, c.deletedAt, c.version) "
+            + "FROM Comment c WHERE c.board.id = :boardId AND c.parent.id = :parentId "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponseDto> findReplySlice(@Param("boardId") Long boardId, @Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.CommentResponseDto("
+            + "c.id, c.board.id, c.parent.id, c.content, c.author, c.createdAt, c.updatedAt, c.deletedAt, c.version) "
+            + "FROM Comment c WHERE c.board.id = :boardId AND c.parent.id = :parentId "
+            + "AND (c.createdAt, c.id) > (:createdAt, :id) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponseDto> findReplySliceAfter(@Param("boardId") Long boardId,
+                                                 @Param("parentId") Long parentId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    // If-Match 조건부 수정: 미리 읽지 않고 버전이 같고 삭제되지 않았을 때만 바꾸며 버전을 올립니다.
+    // 0 이면 없거나, 삭제되었거나, 버전이 다릅니다. 검색 토큰과 수정 시각은 호출 측에서 넘깁니다.
+    @Modifying
+    @Query(value = "UPDATE comments SET content = :content, author = :author, search_tokens = :searchTokens, "
+            + "updated_at = :now, version = version + 1 "
+            + "WHERE id = :id AND board_id = :boardId AND version = :version AND deleted_at IS NULL", nativeQuery = true)
+    int updateIfVersion(@Param("boardId") Long boardId, @Param("id") Long id, @Param("version") long version,
+                        @Param("content") String content, @Param("author") String author,
+                        @Param("searchTokens") String searchTokens, @Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT c.parent.id FROM Comment c WHERE c.parent.id IN :parentIds")
+    List<Long> findParentIdsHavingReplies(@Param("parentIds") Collection<Long> parentIds);
+
+    // 작성자별 활동 피드(내 댓글): author 로 좁힌 (createdAt, id) 역순 키셋입니다. (idx_comments_author_created_at)
+    // 삭제된 댓글과 삭제 표시된 게시글의 댓글은 제외하고, 내용은 앞부분 summaryLength 글자만 읽습니다.
+    @Query("SELECT new com.pray.board.dto.ActivityDto("
+            + "'COMMENT', c.id, b.id, b.title, SUBSTRING(c.content, 1, :summaryLength), c.createdAt) "
+            + "FROM Comment c JOIN c.board b WHERE c.author = :author AND c.deletedAt IS NULL AND b.deletedAt IS NULL "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ActivityDto> findActivityByAuthor(@Param("author") String author, @Param("summaryLength") int summaryLength,
+                                           Pageable pageable);
+
+    @Query("SELECT new com.pray.board.dto.ActivityDto("
+            + "'COMMENT', c.id, b.id, b.title, SUBSTRING(c.content, 1, :summaryLength), c.createdAt) "
+            + "FROM Comment c JOIN c.board b WHERE c.author = :author AND c.deletedAt IS NULL AND b.deletedAt IS NULL "
+            + "AND (c.createdAt, c.id) < (:createdAt, :id) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ActivityDto> findActivityByAuthorAfter(@Param("author") String author, @Param("summaryLength") int summaryLength,
+                                                @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.pray.board.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.pray.board.dto.CommentResponseDto;
+
+/**
+ * JPQL 로 표현하기 어려운 댓글 조회(LATERAL 조인, DB 커서 스트리밍)를 JDBC 로 구현하고, id 를 미리 받는 기능을 더한 확장 리포지토리입니다.
+ */
+public interface CommentRepositoryCustom {
+
+    /** 부모 댓글별로 먼저 작성된 대댓글을 최대 perParent 건씩 조회합니다. (parentId, createdAt, id 순, PostgreSQL 전용) */
+    List<CommentResponseDto> findFirstRepliesByParentIds(Collection<Long> parentIds, int perParent);
+
+    /** 게시글의 댓글을 표시 순서(path 순)로 DB 커서에서 읽으면서 한 건씩 넘겨줍니다. 트랜잭션 안에서 호출해야 합니다. */
+    void streamByBoardId(Long boardId, Consumer<CommentResponseDto> consumer);
+
+    /** comments_seq 에서 다음 댓글 id 를 받습니다. 받은 id 를 넣은 채로 저장하면 그 id 로 INSERT 됩니다. 트랜잭션 안에서 호출해야 합니다. */
+    Long nextId();
+}
@@ -0,0 +1,95 @@
+package com.pray.board.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.entity.Comment;
+
+import jakarta.persistence.EntityManager;
+
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private static final String COLUMNS = "id, board_id, parent_id, content, author, created_at, updated_at, deleted_at, version";
+
+    private static final RowMapper<CommentResponseDto> ROW_MAPPER = CommentRepositoryImpl::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final EntityManager entityManager;
+    private final int streamFetchSize;
+
+    public CommentRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+                                 @Value("${board.comment.stream-fetch-size:500}") int streamFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    @Override
+    public List<CommentResponseDto> findFirstRepliesByParentIds(Collection<Long> parentIds, int perParent) {
+        if (parentIds.isEmpty() || perParent <= 0) {
+            return List.of();
+        }
+        // 부모마다 idx_comments_parent_created_at 를 앞에서부터 perParent 건만 읽고 멈춥니다.
+        // (ROW_NUMBER() 윈도 함수는 부모의 대댓글을 모두 읽어 번호를 매긴 뒤에 잘라냅니다)
+        String sql = "SELECT r.* FROM comments p CROSS JOIN LATERAL ("
+                + " SELECT " + COLUMNS + " FROM comments c WHERE c.parent_id = p.id"
+                + " ORDER BY c.created_at, c.id LIMIT :perParent"
+                + ") r WHERE p.id IN (:parentIds) ORDER BY r.parent_id, r.created_at, r.id";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("parentIds", parentIds)
+                .addValue("perParent", perParent);
+        return namedJdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+
+    @Override
+    public void streamByBoardId(Long boardId, Consumer<CommentResponseDto> consumer) {
+        String sql = "SELECT " + COLUMNS + " FROM comments WHERE board_id = ? ORDER BY path";
+        // fetchSize 를 지정하면 PostgreSQL 드라이버가 결과를 한 번에 메모리에 올리지 않고 커서로 나누어 가져옵니다.
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(streamFetchSize);
+            statement.setLong(1, boardId);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs, 0)));
+    }
+
+    @Override
+    public Long nextId() {
+        // 엔티티에 지정된 생성기(CommentIdGenerator)를 그대로 써서 pooled 할당을 persist 와 함께 씁니다.
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Comment.class).getGenerator();
+        return (Long) generator.generate(session, null, null, EventType.INSERT);
+    }
+
+    private static CommentResponseDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new CommentResponseDto(
+                rs.getLong("id"),
+                rs.getLong("board_id"),
+                rs.getObject("parent_id", Long.class),
+                rs.getString("content"),
+                rs.getString("author"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getObject("deleted_at", LocalDateTime.class),
+                rs.getObject("version", Long.class));
+    }
+}
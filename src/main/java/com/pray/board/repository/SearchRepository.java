@@ -0,0 +1,131 @@
+package com.pray.board.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.search.SearchTokenizer;
+
+/**
+ * search_vector(tsvector, GIN) 기반 전문 검색 쿼리입니다. (PostgreSQL 전용, db/migration/V3__search_vectors.sql 참고)
+ * <p>
+ * query 는 SearchTokenizer 가 만든 항목을 '&amp;' 로 이은 tsquery 문자열이며, 글자/숫자와 접두 표시(:*)만 포함합니다.
+ * 결과는 ts_rank_cd 순(같으면 최신 id 순)으로 정렬하고 limit + offset 으로 자릅니다.
+ */
+@Repository
+public class SearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public List<BoardResponseDto> searchBoards(String query, int offset, int limit) {
+        String sql = "SELECT b.id, b.title, b.content, b.author, b.created_at, b.updated_at,"
+                + " b.like_count, b.dislike_count, b.comment_count"
+                + " FROM board b, to_tsquery('simple', :query) q"
+                + " WHERE b.search_vector @@ q AND b.deleted_at IS NULL"
+                + " ORDER BY ts_rank_cd(b.search_vector, q) DESC, b.id DESC"
+                + " LIMIT :limit OFFSET :offset";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        return jdbcTemplate.query(sql, params, SearchRepository::mapBoard);
+    }
+
+    // boardId 가 null 이면 전체 게시글의 댓글에서 찾습니다. 삭제된 댓글은 토큰이 비어 있어 일치하지 않고,
+    // 삭제 표시된 게시글(정리 전)의 댓글은 제외합니다.
+    public List<CommentResponseDto> searchComments(String query, Long boardId, int offset, int limit) {
+        String sql = "SELECT c.id, c.board_id, c.parent_id, c.content, c.author, c.created_at, c.updated_at, c.deleted_at"
+                + " FROM comments c, to_tsquery('simple', :query) q"
+                + " WHERE c.search_vector @@ q"
+                + (boardId != null ? " AND c.board_id = :boardId" : "")
+                + " AND EXISTS (SELECT 1 FROM board b WHERE b.id = c.board_id AND b.deleted_at IS NULL)"
+                + " ORDER BY ts_rank_cd(c.search_vector, q) DESC, c.id DESC"
+                + " LIMIT :limit OFFSET :offset";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("boardId", boardId)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        return jdbcTemplate.query(sql, params, SearchRepository::mapComment);
+    }
+
+    /**
+     * 토큰 컬럼이 비어 있는 기존 게시글(검색 도입 이전 데이터) 중 id 가 afterId 보다 큰 것을 id 순으로 최대 limit 건 색인합니다.
+     * 다음 청크는 반환된 lastId 다음부터 찾으므로(keyset), 앞에서 이미 훑은 구간을 매번 다시 읽지 않습니다.
+     */
+    public BackfillChunk backfillBoards(long afterId, int limit) {
+        List<Object[]> rows = jdbcTemplate.getJdbcTemplate().query(
+                "SELECT id, title, content FROM board WHERE id > ? AND title_tokens IS NULL ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new Object[] {
+                        SearchTokenizer.indexTokens(rs.getString("title")),
+                        SearchTokenizer.indexTokens(rs.getString("content")),
+                        rs.getLong("id") },
+                afterId, limit);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(
+                    "UPDATE board SET title_tokens = ?, content_tokens = ? WHERE id = ?", rows);
+        }
+        return BackfillChunk.of(rows, afterId);
+    }
+
+    public BackfillChunk backfillComments(long afterId, int limit) {
+        List<Object[]> rows = jdbcTemplate.getJdbcTemplate().query(
+                "SELECT id, content, deleted_at FROM comments WHERE id > ? AND search_tokens IS NULL ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new Object[] {
+                        rs.getObject("deleted_at") != null ? "" : SearchTokenizer.indexTokens(rs.getString("content")),
+                        rs.getLong("id") },
+                afterId, limit);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate("UPDATE comments SET search_tokens = ? WHERE id = ?", rows);
+        }
+        return BackfillChunk.of(rows, afterId);
+    }
+
+    /** 색인한 건수와 마지막으로 색인한 id (없으면 afterId 그대로) */
+    public record BackfillChunk(int rows, long lastId) {
+
+        // 각 행의 마지막 값이 id 입니다.
+        private static BackfillChunk of(List<Object[]> rows, long afterId) {
+            return rows.isEmpty()
+                    ? new BackfillChunk(0, afterId)
+                    : new BackfillChunk(rows.size(), (Long) rows.get(rows.size() - 1)[rows.get(0).length - 1]);
+        }
+    }
+
+    private static BoardResponseDto mapBoard(ResultSet rs, int rowNum) throws SQLException {
+        return new BoardResponseDto(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getString("author"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getLong("like_count"),
+                rs.getLong("dislike_count"),
+                rs.getLong("comment_count"));
+    }
+
+    private static CommentResponseDto mapComment(ResultSet rs, int rowNum) throws SQLException {
+        return new CommentResponseDto(
+                rs.getLong("id"),
+                rs.getLong("board_id"),
+                rs.getObject("parent_id", Long.class),
+                rs.getString("content"),
+                rs.getString("author"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getObject("deleted_at", LocalDateTime.class));
+    }
+}
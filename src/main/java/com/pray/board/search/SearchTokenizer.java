@@ -0,0 +1,86 @@
+package com.pray.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 전문 검색용 토크나이저입니다.
+ * <p>
+ * PostgreSQL 의 'simple' 설정은 공백/구두점 기준으로만 자르므로 "기도합니다" 로 색인하면 "기도" 로 찾을 수 없습니다.
+ * 한글 음절이 이어진 구간은 2-gram 으로 나누어 조사/어미가 붙어도 어간으로 찾을 수 있게 하고,
+ * 그 밖의 글자/숫자는 단어 단위(소문자)로 둡니다. 한글과 영문/숫자 사이도 경계로 봅니다. ("JPA를" → jpa, 를)
+ * <p>
+ * 색인과 질의에 같은 규칙을 적용해야 하므로 엔티티 저장 시(indexTokens)와 검색 시(queryTerms) 모두 이 클래스를 사용합니다.
+ */
+public final class SearchTokenizer {
+
+    // tsvector 어휘 하나의 최대 길이(2047 바이트)보다 충분히 짧게 자릅니다.
+    private static final int MAX_WORD_LENGTH = 64;
+
+    private SearchTokenizer() {
+    }
+
+    /** 색인용 토큰을 공백으로 이어 붙여 반환합니다. to_tsvector('simple', ...) 의 입력으로 사용됩니다. */
+    public static String indexTokens(String text) {
+        return String.join(" ", tokenize(text, false));
+    }
+
+    /**
+     * 검색어를 tsquery 항목 목록으로 바꿉니다. 모든 항목이 AND 로 결합됩니다.
+     * 한 글자 한글은 그 글자로 시작하는 2-gram 과 맞도록 접두 검색(:*)으로 만듭니다.
+     */
+    public static List<String> queryTerms(String query) {
+        return tokenize(query, true);
+    }
+
+    private static List<String> tokenize(String text, boolean query) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            boolean hangul = isHangulSyllable(codePoint);
+            if (!hangul && !Character.isLetterOrDigit(codePoint)) {
+                flush(run, hangulRun, query, tokens);
+                continue;
+            }
+            if (run.length() > 0 && hangul != hangulRun) {
+                flush(run, hangulRun, query, tokens);
+            }
+            hangulRun = hangul;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, hangulRun, query, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, boolean query, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+        if (!hangul) {
+            tokens.add(run.length() > MAX_WORD_LENGTH ? run.substring(0, MAX_WORD_LENGTH) : run.toString());
+        } else if (run.length() == 1) {
+            // 한글 음절은 모두 BMP 문자이므로 char 단위로 잘라도 됩니다.
+            tokens.add(query ? run + ":*" : run.toString());
+        } else {
+            for (int i = 0; i + 1 < run.length(); i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangulSyllable(int codePoint) {
+        return codePoint >= 0xAC00 && codePoint <= 0xD7A3;
+    }
+}
@@ -0,0 +1,113 @@
+package com.pray.board.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pray.board.dto.ActivityCursor;
+import com.pray.board.dto.ActivityDto;
+import com.pray.board.dto.CursorSliceDto;
+import com.pray.board.repository.BoardLikesRepository;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.repository.CommentRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * 작성자별 활동 피드(내 글 / 내 댓글 / 내 반응)입니다.
+ * <p>
+ * 세 테이블을 각각 (author, created_at, id) 인덱스로 최신순 size + 1 건씩 읽고, 이미 정렬된 세 목록을
+ * {@link KWayMerge} 로 합쳐 앞의 size + 1 건만 꺼냅니다. 합친 결과의 앞 size + 1 건은 반드시 각 목록의
+ * 앞 size + 1 건 안에 있으므로 더 읽을 필요가 없습니다.
+ */
+@Service
+@Timed(value = "board.service", histogram = true)
+@Transactional(readOnly = true)
+public class ActivityService {
+
+    // 같은 시각의 활동은 이 순서로 놓습니다. 커서의 type 과 비교해 목록마다 다시 읽을 위치를 정합니다.
+    static final List<String> TYPES = List.of(ActivityDto.POST, ActivityDto.COMMENT, ActivityDto.REACTION);
+
+    private static final Comparator<ActivityDto> NEWEST_FIRST = Comparator
+            .<ActivityDto, LocalDateTime>comparing(ActivityDto::createdAt).reversed()
+            .thenComparingInt(activity -> TYPES.indexOf(activity.type()))
+            .thenComparing(ActivityDto::id, Comparator.reverseOrder());
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final BoardLikesRepository boardLikesRepository;
+    private final int summaryLength;
+
+    public ActivityService(BoardRepository boardRepository, CommentRepository commentRepository,
+                           BoardLikesRepository boardLikesRepository,
+                           @Value("${board.list.preview-length:120}") int summaryLength) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.boardLikesRepository = boardLikesRepository;
+        this.summaryLength = summaryLength;
+    }
+
+    /**
+     * types 가 비어 있으면 모든 종류를 합칩니다. 잘못된 커서나 종류는 IllegalArgumentException 으로 알립니다.
+     */
+    public CursorSliceDto<ActivityDto> getActivity(String author, Set<String> types, String cursor, int size) {
+        if (!TYPES.containsAll(types)) {
+            throw new IllegalArgumentException("알 수 없는 활동 종류입니다: " + types);
+        }
+        ActivityCursor after = (cursor != null && !cursor.isBlank()) ? ActivityCursor.decode(cursor) : null;
+        if (after != null && !TYPES.contains(after.type())) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<List<ActivityDto>> streams = new ArrayList<>(TYPES.size());
+        for (String type : TYPES) {
+            if (types.isEmpty() || types.contains(type)) {
+                streams.add(findByAuthor(type, author, after, limit));
+            }
+        }
+        List<ActivityDto> rows = KWayMerge.merge(streams, NEWEST_FIRST, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<ActivityDto> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? ActivityCursor.of(content.get(content.size() - 1)).encode() : null;
+        return new CursorSliceDto<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    private List<ActivityDto> findByAuthor(String type, String author, ActivityCursor after, Pageable limit) {
+        if (after == null) {
+            return switch (type) {
+                case ActivityDto.POST -> boardRepository.findActivityByAuthor(author, summaryLength, limit);
+                case ActivityDto.COMMENT -> commentRepository.findActivityByAuthor(author, summaryLength, limit);
+                default -> boardLikesRepository.findActivityByAuthor(author, limit);
+            };
+        }
+        long id = resumeId(type, after);
+        return switch (type) {
+            case ActivityDto.POST ->
+                    boardRepository.findActivityByAuthorAfter(author, summaryLength, after.createdAt(), id, limit);
+            case ActivityDto.COMMENT ->
+                    commentRepository.findActivityByAuthorAfter(author, summaryLength, after.createdAt(), id, limit);
+            default -> boardLikesRepository.findActivityByAuthorAfter(author, after.createdAt(), id, limit);
+        };
+    }
+
+    // 각 목록은 (createdAt, id) < (커서 시각, 반환값) 부터 읽습니다.
+    // 커서와 같은 종류면 커서 id 다음부터, 같은 시각에서 커서보다 뒤에 놓이는 종류면 그 시각 전체를,
+    // 앞에 놓이는 종류면(이미 내보냄) 그 시각을 건너뜁니다.
+    private static long resumeId(String type, ActivityCursor after) {
+        int order = Integer.compare(TYPES.indexOf(type), TYPES.indexOf(after.type()));
+        if (order == 0) {
+            return after.id();
+        }
+        return (order > 0) ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+}
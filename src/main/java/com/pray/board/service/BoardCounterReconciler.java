@@ -0,0 +1,119 @@
+package com.pray.board.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pray.board.repository.BoardRepository;
+
+/**
+ * Board 의 비정규화 카운터(like_count, dislike_count, comment_count)를
+ * board_likes / comments 원본 테이블로부터 주기적으로 다시 계산합니다.
+ * 한 번에 전체 테이블을 잠그지 않도록 id 구간별로 나누어 별도 트랜잭션에서 갱신합니다.
+ * <p>
+ * 모든 노드에서 같은 시각에 실행되므로 PostgreSQL advisory lock 을 잡은 노드 하나만 재계산합니다.
+ * 구간마다 게시글 행을 먼저 잠가, 카운터를 함께 올리는 진행 중인 토글/댓글 트랜잭션이 끝난 뒤의 원본을 셉니다.
+ * 이 노드의 좋아요 버퍼(LikeToggleBuffer)는 시작 전에 반영합니다.
+ */
+@Component
+public class BoardCounterReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardCounterReconciler.class);
+
+    static final long LOCK_KEY = "BoardCounterReconciler".hashCode();
+
+    private final BoardRepository boardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<LikeToggleBuffer> likeToggleBuffer;
+    private final int chunkSize;
+
+    public BoardCounterReconciler(BoardRepository boardRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectProvider<LikeToggleBuffer> likeToggleBuffer,
+                                  @Value("${board.counter.reconcile-chunk-size:1000}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.likeToggleBuffer = likeToggleBuffer;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${board.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        // 세션 단위 잠금이므로 잠금을 잡은 커넥션을 끝까지 들고 있다가 같은 커넥션에서 풉니다. (구간 갱신은 다른 커넥션)
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!tryLock(connection)) {
+                log.info("다른 노드에서 게시글 카운터를 재계산 중이라 건너뜁니다.");
+                return null;
+            }
+            try {
+                reconcileChunks();
+            } finally {
+                unlock(connection);
+            }
+            return null;
+        });
+    }
+
+    private void reconcileChunks() {
+        // 버퍼의 미반영 토글은 DB 의 원본 행과 카운터 어느 쪽에도 없지만, 반영 중인 배치와 겹치지 않도록 먼저 내보냅니다.
+        likeToggleBuffer.ifAvailable(LikeToggleBuffer::flush);
+
+        long maxId = boardRepository.findMaxId();
+        long updated = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long from = fromId;
+            long to = fromId + chunkSize - 1;
+            Integer rows = transactionTemplate.execute(status -> {
+                // 카운터를 함께 올리는 트랜잭션이 잡은 행이면 그 커밋을 기다립니다. 다음 문장은 새 스냅샷이라 그 행까지 셉니다.
+                boardRepository.lockIdRange(from, to);
+                return boardRepository.reconcileCounts(from, to);
+            });
+            updated += (rows != null ? rows : 0);
+        }
+
+        log.info("게시글 카운터 재계산 완료: {}건", updated);
+    }
+
+    // advisory lock 은 PostgreSQL 전용입니다. 그 외(테스트용 H2)는 단일 노드로 보고 바로 실행합니다.
+    private static boolean tryLock(Connection connection) throws SQLException {
+        if (!isPostgreSql(connection)) {
+            return true;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        if (!isPostgreSql(connection)) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, LOCK_KEY);
+            statement.executeQuery().close();
+        }
+    }
+
+    private static boolean isPostgreSql(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+}
@@ -0,0 +1,326 @@
+package com.pray.board.service;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pray.board.dto.BoardEventDto;
+import com.pray.board.event.BoardLikeChangedEvent;
+import com.pray.board.event.CommentCreatedEvent;
+import com.pray.board.event.CommentDeletedEvent;
+import com.pray.board.event.CommentUpdatedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글별 실시간 구독(SSE)에 댓글/좋아요 변경분을 전달합니다.
+ * <p>
+ * 커밋된 변경 이벤트마다 JSON 직렬화와 SSE 프레임 구성은 한 번만 하고, 같은 프레임을 구독자별 큐에 넣습니다.
+ * 구독자 큐는 크기가 제한되어 있으며, 가득 찬 구독자(느린 소비자)는 연결을 끊습니다.
+ * 클라이언트(EventSource)는 자동으로 재연결하므로 재연결 후 목록을 다시 읽으면 됩니다. (이벤트 재전송은 하지 않습니다)
+ * <p>
+ * 전송은 요청 스레드가 아닌 전송 스레드들이 구독자 단위로 순서대로 처리하므로,
+ * 구독자 수가 많아도 이벤트 발행 측(서비스 트랜잭션 커밋 직후)은 큐에 넣는 비용만 부담합니다.
+ * 소켓 쓰기(emitter.send)는 블로킹이므로 전송 스레드는 필요할 때 max-dispatch-threads 까지 늘어나고(구독자 수와 무관),
+ * 그보다 많은 구독자의 전송은 차례를 기다립니다. 한 번의 쓰기가 send-timeout-ms 를 넘긴 구독자는 느린 소비자로 보고 구독에서 빼며,
+ * 멈춘 쓰기가 끝나기(또는 실패하기) 전까지는 max-subscribers 에 계속 포함되어 새 구독이 그 자리를 차지하지 못합니다.
+ */
+@Component
+public class BoardEventHub implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardEventHub.class);
+
+    // 한 번의 전송 작업에서 보낼 최대 프레임 수: 한 구독자가 전송 스레드를 오래 점유하지 않도록 합니다.
+    private static final int DRAIN_BATCH = 64;
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+    private final Set<DataWithMediaType> heartbeatFrame = SseEmitter.event().comment("ping").build();
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+    private final Counter slowConsumerCounter;
+
+    public BoardEventHub(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         @Value("${board.sse.max-dispatch-threads:64}") int maxDispatchThreads,
+                         @Value("${board.sse.queue-capacity:256}") int queueCapacity,
+                         @Value("${board.sse.max-subscribers:10000}") int maxSubscribers,
+                         @Value("${board.sse.timeout-ms:1800000}") long timeoutMs,
+                         @Value("${board.sse.heartbeat-ms:15000}") long heartbeatMs,
+                         @Value("${board.sse.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        // 스레드는 전송이 있을 때 maxDispatchThreads 까지 만들고 쉬면 정리합니다. 넘치는 전송은 큐에서 기다립니다.
+        // 구독자마다 예약된 전송 작업은 최대 1개이므로(draining) 큐는 maxSubscribers 를 넘지 않습니다.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxDispatchThreads, maxDispatchThreads,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(maxSubscribers), runnable -> {
+                    Thread thread = new Thread(runnable, "board-sse-dispatch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.dispatcher = executor;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 프록시/로드밸런서의 유휴 연결 종료를 막고, 끊어진 연결을 찾아냅니다.
+        this.heartbeat.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        this.heartbeat.scheduleWithFixedDelay(this::dropStalledSubscribers, sendTimeoutMs, sendTimeoutMs, TimeUnit.MILLISECONDS);
+
+        this.slowConsumerCounter = Counter.builder("board.sse.slow-consumers")
+                .description("큐가 가득 차거나 쓰기가 send-timeout 을 넘겨 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("board.sse.subscribers", subscriberCount, AtomicInteger::get)
+                .description("현재 SSE 구독자 수 (구독 해제 후 멈춘 쓰기가 아직 끝나지 않은 연결 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글 구독을 등록합니다. 노드당 구독자 한도를 넘으면 IllegalStateException 을 던집니다.
+     */
+    public SseEmitter subscribe(Long boardId) {
+        return subscribe(boardId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Long boardId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("구독자 수가 한도를 초과했습니다.");
+        }
+        Subscriber subscriber = new Subscriber(boardId, emitter);
+        // 마지막 구독자가 빠지며 집합이 제거되는 것과 겹치지 않도록 추가도 compute 안에서 합니다.
+        subscribers.compute(boardId, (id, targets) -> {
+            Set<Subscriber> set = (targets != null) ? targets : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+
+        emitter.onCompletion(subscriber::unregister);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        publish(event.boardId(), BoardEventDto.comment(BoardEventDto.COMMENT_CREATED, event.boardId(), event.comment()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentUpdated(CommentUpdatedEvent event) {
+        publish(event.boardId(), BoardEventDto.comment(BoardEventDto.COMMENT_UPDATED, event.boardId(), event.comment()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        publish(event.boardId(), BoardEventDto.commentDeleted(event.boardId(), event.commentId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(BoardLikeChangedEvent event) {
+        if (event.likeDelta() == 0 && event.dislikeDelta() == 0) {
+            return;
+        }
+        publish(event.boardId(), BoardEventDto.likeChanged(event.boardId(), event.likeDelta(), event.dislikeDelta()));
+    }
+
+    private void publish(Long boardId, BoardEventDto payload) {
+        Set<Subscriber> targets = subscribers.get(boardId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(Long.toString(eventIds.incrementAndGet()))
+                    .name(payload.getType())
+                    .data(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패: {}", payload.getType(), e);
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            subscriber.enqueue(frame);
+        }
+    }
+
+    private void sendHeartbeat() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.enqueue(heartbeatFrame)));
+    }
+
+    // 쓰기가 오래 멈춘 구독자는 구독에서 빼서 더 쌓이지 않게 합니다. 연결 종료와 구독자 수 반납은 멈춘 쓰기가 끝난 뒤 전송 스레드가 합니다.
+    // (emitter 의 send/complete 는 같은 모니터를 쓰므로 여기서 complete 를 부르면 이 스레드도 함께 멈춥니다)
+    private void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            if (subscriber.isSendStalled(now) && subscriber.unregister()) {
+                slowConsumerCounter.increment();
+                log.warn("게시글 {} 구독자의 SSE 쓰기가 {}ms 를 넘겨 구독을 해제합니다.", subscriber.boardId,
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+            }
+        }));
+    }
+
+    int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(targets -> targets.forEach(Subscriber::close));
+        dispatcher.shutdown();
+    }
+
+    private final class Subscriber {
+
+        private final Long boardId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean registered = new AtomicBoolean(true);
+        // subscriberCount 에 포함되어 있는지: 구독 해제 후에도 진행 중인 쓰기가 끝날 때까지 유지합니다.
+        private final AtomicBoolean counted = new AtomicBoolean(true);
+        // 진행 중인 쓰기의 시작 시각 (0 이면 쓰는 중이 아님)
+        private volatile long sendStartedNanos;
+
+        private Subscriber(Long boardId, SseEmitter emitter) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Set<DataWithMediaType> frame) {
+            if (!registered.get()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                // 느린 소비자: 변경분을 빠뜨린 채 계속 보내면 클라이언트 상태가 어긋나므로 연결을 끊어 다시 읽게 합니다.
+                // 진행 중인 쓰기가 emitter 모니터를 잡고 있을 수 있으므로 발행 스레드는 구독 해제만 하고, 연결 종료는 전송 스레드에 맡깁니다.
+                if (unregister()) {
+                    slowConsumerCounter.increment();
+                }
+                scheduleDrain();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중이거나 전송 큐가 가득 찼습니다. 보내지 못한 변경분이 생기므로 연결을 끊어 다시 읽게 합니다.
+                    // 이 구독자의 전송 작업은 없으므로(draining) 진행 중인 쓰기와 겹치지 않습니다.
+                    draining.set(false);
+                    close();
+                    release();
+                }
+            }
+        }
+
+        private void drain() {
+            boolean failed = false;
+            try {
+                for (int sent = 0; sent < DRAIN_BATCH && registered.get(); sent++) {
+                    Set<DataWithMediaType> frame = queue.poll();
+                    if (frame == null) {
+                        break;
+                    }
+                    sendStartedNanos = System.nanoTime() | 1;
+                    try {
+                        emitter.send(frame);
+                    } finally {
+                        sendStartedNanos = 0;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 연결입니다.
+                failed = true;
+            } finally {
+                draining.set(false);
+            }
+            // 실패했거나 쓰는 도중 구독이 해제되었다면(멈춘 쓰기, 클라이언트 종료) 연결을 마무리하고 구독자 수를 반납합니다.
+            if (failed || !registered.get()) {
+                close();
+                release();
+                return;
+            }
+            // 남은 프레임(배치 초과분, 또는 draining 해제 직전에 들어온 프레임)은 다시 예약합니다.
+            if (!queue.isEmpty() && registered.get()) {
+                scheduleDrain();
+            }
+        }
+
+        private boolean isSendStalled(long now) {
+            long started = sendStartedNanos;
+            return started != 0 && now - started > sendTimeoutNanos;
+        }
+
+        private void close() {
+            unregister();
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                // 이미 완료된 연결
+            }
+        }
+
+        private boolean unregister() {
+            if (!registered.compareAndSet(true, false)) {
+                return false;
+            }
+            queue.clear();
+            subscribers.computeIfPresent(boardId, (id, targets) -> {
+                targets.remove(this);
+                return targets.isEmpty() ? null : targets;
+            });
+            release();
+            return true;
+        }
+
+        // 진행 중인 전송이 없을 때만 구독자 수를 반납합니다. 전송 중이면 전송 스레드가 끝나면서 반납합니다. (drain)
+        // registered 와 draining 을 서로 반대 순서로 쓰고 읽으므로 둘 중 한쪽은 반드시 반납합니다.
+        private void release() {
+            if (!registered.get() && !draining.get() && counted.compareAndSet(true, false)) {
+                subscriberCount.decrementAndGet();
+            }
+        }
+    }
+}
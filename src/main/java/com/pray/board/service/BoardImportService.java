@@ -0,0 +1,227 @@
+package com.pray.board.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pray.board.dto.BoardImportDto;
+import com.pray.board.dto.BulkImportResultDto;
+import com.pray.board.dto.CommentImportDto;
+import com.pray.board.entity.Board;
+import com.pray.board.entity.Comment;
+import com.pray.board.repository.CommentRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 이전 시스템의 게시글/댓글을 일괄로 가져옵니다.
+ * <p>
+ * 입력을 스트림으로 읽으면서 chunkSize 개 엔티티마다 flush/clear 하여 Hibernate JDBC 배치(hibernate.jdbc.batch_size)로
+ * INSERT 하고, 청크마다 커밋하여 긴 트랜잭션과 영속성 컨텍스트 비대화를 막습니다.
+ * 댓글의 parentRef 는 같은 게시글의 ref 로 해석하며, 부모가 뒤에 나오더라도 부모를 먼저 저장합니다.
+ */
+@Service
+public class BoardImportService {
+
+    private final EntityManager entityManager;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BoardImportService(EntityManager entityManager,
+                              CommentRepository commentRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${board.import.chunk-size:500}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkImportResultDto importBoards(Iterator<BoardImportDto> boards) {
+        BulkImportResultDto result = new BulkImportResultDto(0, 0, null);
+        List<BoardImportDto> chunk = new ArrayList<>();
+        int chunkEntities = 0;
+        int index = 0;
+
+        try {
+            while (true) {
+                BoardImportDto board;
+                try {
+                    if (!boards.hasNext()) {
+                        break;
+                    }
+                    board = boards.next();
+                } catch (RuntimeException e) {
+                    // 입력 스트림 중간의 잘못된 JSON 등: 그 전까지 커밋된 청크는 유지됩니다.
+                    throw new IllegalArgumentException(index + "번째 게시글을 읽을 수 없습니다: " + e.getMessage(), e);
+                }
+                validate(board, index++);
+                chunk.add(board);
+                chunkEntities += 1 + board.getComments().size();
+                if (chunkEntities >= chunkSize) {
+                    persistChunk(chunk, result);
+                    chunk.clear();
+                    chunkEntities = 0;
+                }
+            }
+            if (!chunk.isEmpty()) {
+                persistChunk(chunk, result);
+            }
+        } catch (IllegalArgumentException e) {
+            result.setError(e.getMessage());
+        }
+        return result;
+    }
+
+    private void persistChunk(List<BoardImportDto> chunk, BulkImportResultDto result) {
+        long[] counts = transactionTemplate.execute(status -> {
+            long boardCount = 0;
+            long commentCount = 0;
+            int pending = 0;
+
+            for (BoardImportDto dto : chunk) {
+                Board board = Board.builder()
+                        .title(dto.getTitle())
+                        .content(dto.getContent())
+                        .author(dto.getAuthor())
+                        .createdAt(dto.getCreatedAt())
+                        .commentCount(dto.getComments().size())
+                        .build();
+                entityManager.persist(board);
+                boardCount++;
+                pending++;
+
+                CommentImporter importer = new CommentImporter(board.getId(), dto.getComments());
+                for (CommentImportDto comment : importer.ordered) {
+                    importer.persist(comment);
+                    commentCount++;
+                    if (++pending >= chunkSize) {
+                        flushAndClear();
+                        pending = 0;
+                    }
+                }
+            }
+            flushAndClear();
+            return new long[] { boardCount, commentCount };
+        });
+
+        result.setImportedBoards(result.getImportedBoards() + counts[0]);
+        result.setImportedComments(result.getImportedComments() + counts[1]);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static void validate(BoardImportDto board, int index) {
+        if (isBlank(board.getTitle()) || isBlank(board.getContent()) || isBlank(board.getAuthor())) {
+            throw new IllegalArgumentException(index + "번째 게시글: 제목, 내용, 작성자는 필수입니다.");
+        }
+        if (board.getComments() == null) {
+            board.setComments(new ArrayList<>());
+        }
+        Set<String> refs = new HashSet<>();
+        for (CommentImportDto comment : board.getComments()) {
+            if (isBlank(comment.getContent()) || isBlank(comment.getAuthor())) {
+                throw new IllegalArgumentException(index + "번째 게시글: 댓글 내용과 작성자는 필수입니다.");
+            }
+            if (comment.getRef() != null && !refs.add(comment.getRef())) {
+                throw new IllegalArgumentException(index + "번째 게시글: 중복된 댓글 ref 입니다: " + comment.getRef());
+            }
+        }
+        for (CommentImportDto comment : board.getComments()) {
+            if (comment.getParentRef() != null && !refs.contains(comment.getParentRef())) {
+                throw new IllegalArgumentException(index + "번째 게시글: 부모 댓글 ref 를 찾을 수 없습니다: " + comment.getParentRef());
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 한 게시글의 댓글을 작성 시각 순으로 저장합니다. (id 순서 = 표시 순서가 되도록)
+     * 저장한 댓글은 엔티티 대신 (id, path) 만 기억하므로 중간에 clear 해도 부모를 참조할 수 있습니다.
+     */
+    private class CommentImporter {
+
+        private final Long boardId;
+        private final List<CommentImportDto> ordered;
+        private final Map<String, CommentImportDto> byRef = new HashMap<>();
+        private final Map<String, Long> savedIds = new HashMap<>();
+        private final Map<String, String> savedPaths = new HashMap<>();
+        private final Set<CommentImportDto> saved = new HashSet<>();
+
+        private CommentImporter(Long boardId, List<CommentImportDto> comments) {
+            this.boardId = boardId;
+            comments.stream().filter(c -> c.getRef() != null).forEach(c -> byRef.put(c.getRef(), c));
+            // createdAt 이 없는 댓글은 입력 순서를 유지하며 뒤에 둡니다. (정렬은 안정적)
+            this.ordered = comments.stream()
+                    .sorted(Comparator.comparing(CommentImportDto::getCreatedAt,
+                            Comparator.nullsLast(Comparator.naturalOrder())))
+                    .toList();
+        }
+
+        // 아직 저장되지 않은 조상을 위로 따라가며 모은 뒤 맨 위부터 저장합니다.
+        // (재귀 대신 명시적 스택을 써서 부모가 뒤에 나오는 긴 사슬에서도 스택이 넘치지 않습니다)
+        private void persist(CommentImportDto dto) {
+            Deque<CommentImportDto> unsaved = new ArrayDeque<>();
+            Set<CommentImportDto> onChain = new HashSet<>();
+            for (CommentImportDto current = dto; current != null && !saved.contains(current);
+                    current = current.getParentRef() != null ? byRef.get(current.getParentRef()) : null) {
+                if (!onChain.add(current)) {
+                    throw new IllegalArgumentException("댓글 ref 가 순환 참조합니다: " + current.getRef());
+                }
+                unsaved.push(current);
+            }
+            while (!unsaved.isEmpty()) {
+                save(unsaved.pop());
+            }
+        }
+
+        // 부모는 이미 저장되어 있습니다. id 를 먼저 받아 경로까지 채운 뒤 persist 하므로 INSERT 한 번으로 끝납니다.
+        private void save(CommentImportDto dto) {
+            String parentPath = null;
+            Comment parent = null;
+            if (dto.getParentRef() != null) {
+                parentPath = savedPaths.get(dto.getParentRef());
+                if (parentPath.length() + Comment.PATH_SEGMENT_LENGTH > Comment.PATH_MAX_LENGTH) {
+                    throw new IllegalArgumentException("댓글 깊이 제한을 초과했습니다: " + dto.getRef());
+                }
+                parent = entityManager.getReference(Comment.class, savedIds.get(dto.getParentRef()));
+            }
+
+            Comment comment = Comment.builder()
+                    .board(entityManager.getReference(Board.class, boardId))
+                    .parent(parent)
+                    .content(dto.getContent())
+                    .author(dto.getAuthor())
+                    .createdAt(dto.getCreatedAt())
+                    .build();
+            comment.setId(commentRepository.nextId());
+            comment.setPath(Comment.childPath(parentPath, comment.getId()));
+            entityManager.persist(comment);
+
+            saved.add(dto);
+            if (dto.getRef() != null) {
+                savedIds.put(dto.getRef(), comment.getId());
+                savedPaths.put(dto.getRef(), comment.getPath());
+            }
+        }
+    }
+}
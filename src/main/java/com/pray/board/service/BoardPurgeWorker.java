@@ -0,0 +1,162 @@
+package com.pray.board.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pray.board.event.BoardDeletedEvent;
+import com.pray.board.repository.BoardRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 삭제 표시된 게시글의 좋아요, 댓글, 게시글 행을 백그라운드에서 지웁니다.
+ * <p>
+ * 좋아요와 댓글은 chunkSize 건씩 별도 트랜잭션으로 지워 한 번에 오래 잠그지 않고, 모두 지운 뒤 게시글 행을 지웁니다.
+ * 남은 작업은 board.deleted_at 으로 찾으므로 중간에 종료되어도 기동 시(및 주기적으로) 이어서 처리합니다.
+ * 실행은 전용 스레드 하나에서 하며, 실행 중에 들어온 요청은 한 번의 후속 실행으로 합쳐집니다.
+ */
+@Component
+public class BoardPurgeWorker implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardPurgeWorker.class);
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ExecutorService executor;
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private final AtomicInteger pendingBoards = new AtomicInteger();
+
+    private final Counter purgedLikes;
+    private final Counter purgedComments;
+    private final Counter purgedBoards;
+    private final Timer purgeTimer;
+
+    public BoardPurgeWorker(BoardRepository boardRepository, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                            @Value("${board.purge.chunk-size:1000}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.purgedLikes = purgedRows(meterRegistry, "board_likes");
+        this.purgedComments = purgedRows(meterRegistry, "comments");
+        this.purgedBoards = purgedRows(meterRegistry, "board");
+        this.purgeTimer = Timer.builder("board.purge.duration")
+                .description("삭제 표시된 게시글 하나를 정리하는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("board.purge.pending", pendingBoards, AtomicInteger::get)
+                .description("정리를 기다리는 삭제 표시 게시글 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        requestRun();
+    }
+
+    // 재시작 전에 끝내지 못한 정리를 이어서 합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        requestRun();
+    }
+
+    // 정리 중 새로 들어온 좋아요/댓글 때문에 남은 게시글 등을 다시 확인합니다.
+    @Scheduled(fixedDelayString = "${board.purge.interval-ms:60000}")
+    public void periodic() {
+        requestRun();
+    }
+
+    private void requestRun() {
+        if (queued.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    queued.set(false);
+                    purgeAll();
+                });
+            } catch (RuntimeException e) {
+                // 종료 중
+                queued.set(false);
+            }
+        }
+    }
+
+    void purgeAll() {
+        List<Long> boardIds = boardRepository.findTombstonedIds();
+        pendingBoards.set(boardIds.size());
+        for (Long boardId : boardIds) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            try {
+                purgeTimer.record(() -> purge(boardId));
+            } catch (RuntimeException e) {
+                log.error("삭제된 게시글 {} 정리 실패, 다음 실행에서 다시 시도합니다.", boardId, e);
+            }
+            pendingBoards.decrementAndGet();
+        }
+    }
+
+    private void purge(Long boardId) {
+        long likes = deleteInChunks(() -> boardRepository.purgeLikes(boardId, chunkSize), purgedLikes);
+        long comments = deleteInChunks(() -> {
+            boardRepository.detachCommentChunk(boardId, chunkSize);
+            return boardRepository.purgeComments(boardId, chunkSize);
+        }, purgedComments);
+        Integer removed = transactionTemplate.execute(status -> boardRepository.purgeBoard(boardId));
+        if (removed != null && removed > 0) {
+            purgedBoards.increment();
+            log.info("삭제된 게시글 {} 정리 완료: 좋아요 {}건, 댓글 {}건", boardId, likes, comments);
+        }
+    }
+
+    // 한 번에 chunkSize 건씩, 덜 지워질 때까지 각각 짧은 트랜잭션으로 지웁니다.
+    private long deleteInChunks(IntSupplier deleteChunk, Counter counter) {
+        long total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Integer deleted = transactionTemplate.execute(status -> deleteChunk.getAsInt());
+            int rows = (deleted != null ? deleted : 0);
+            counter.increment(rows);
+            total += rows;
+            if (rows < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private static Counter purgedRows(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("board.purge.rows")
+                .description("삭제된 게시글 정리로 지운 행 수")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
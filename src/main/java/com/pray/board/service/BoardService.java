@@ -1,57 +1,150 @@
 package com.pray.board.service;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.pray.board.config.CacheConfig;
+import com.pray.board.dto.BoardRequestDto;
 import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.dto.CursorSliceDto;
+import com.pray.board.dto.KeysetCursor;
+import com.pray.board.dto.LikeResponseDto;
 import com.pray.board.entity.Board;
-import com.pray.board.entity.BoardLikes;
+import com.pray.board.event.BoardDeletedEvent;
+import com.pray.board.event.BoardLikeChangedEvent;
 import com.pray.board.repository.BoardLikesRepository;
 import com.pray.board.repository.BoardRepository;
 import com.pray.board.repository.CommentRepository;
+import com.pray.board.search.SearchTokenizer;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 
 
 
 @Service
+@Timed(value = "board.service", histogram = true)
 @Transactional( readOnly = true )
 public class BoardService {
 
+    // 토글 문장이 동시 커밋과 겹쳐 아무것도 적용하지 못했을 때 다시 시도하는 횟수
+    private static final int TOGGLE_ATTEMPTS = 3;
+
     private final BoardRepository boardRepository;
     private final BoardLikesRepository boardLikesRepository;
     private final CommentRepository commentRepository;
+    // board.like.buffer.enabled=true 일 때만 존재합니다.
+    private final LikeToggleBuffer likeToggleBuffer;
+    private final Cache boardDetailCache;
+    private final Cache commentTreeCache;
+    private final HotBoardRanker hotBoardRanker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public BoardService(BoardRepository boardRepository, BoardLikesRepository boardLikesRepository, CommentRepository commentRepository) {
+    public BoardService(BoardRepository boardRepository, BoardLikesRepository boardLikesRepository, CommentRepository commentRepository,
+                        ObjectProvider<LikeToggleBuffer> likeToggleBuffer, CacheManager cacheManager,
+                        HotBoardRanker hotBoardRanker, ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager) {
         this.boardRepository = boardRepository;
         this.boardLikesRepository = boardLikesRepository;
         this.commentRepository = commentRepository;
+        this.likeToggleBuffer = likeToggleBuffer.getIfAvailable();
+        this.boardDetailCache = cacheManager.getCache(CacheConfig.BOARD_DETAIL);
+        this.commentTreeCache = cacheManager.getCache(CacheConfig.COMMENT_TREE);
+        this.hotBoardRanker = hotBoardRanker;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     public Page<BoardResponseDto> getAllBoards(Pageable pageable) {
-        Page<Board> boardPage = boardRepository.findAll(pageable);
+        // 게시글별 집계 쿼리를 반복하지 않도록 한 번의 프로젝션 쿼리로 카운트까지 함께 조회합니다.
+        return boardRepository.findAllWithCounts(pageable).map(this::withPendingLikes);
+    }
 
-        return boardPage.map(board -> {
-            long likeCount = boardLikesRepository.countByBoardIdAndIsLike(board.getId(), true);
-            long dislikeCount = boardLikesRepository.countByBoardIdAndIsLike(board.getId(), false);
-            long commentCount = commentRepository.countByBoardId(board.getId());
-            return new BoardResponseDto(board, likeCount, dislikeCount, commentCount);
-        });
+    /**
+     * 커서 기반 목록 조회입니다. sortByCreatedAt 이 true 이면 (createdAt, id), 아니면 id 역순으로 탐색합니다.
+     * 다른 정렬에서 받은 커서는 위치가 맞지 않으므로 잘못된 커서와 같이 IllegalArgumentException 입니다.
+     */
+    public CursorSliceDto<BoardResponseDto> getBoardsByCursor(String cursor, int size, boolean sortByCreatedAt) {
+        KeysetCursor after = (cursor != null && !cursor.isBlank()) ? KeysetCursor.decode(cursor) : null;
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<BoardResponseDto> rows;
+        if (sortByCreatedAt) {
+            if (after != null && after.createdAt() == null) {
+                throw new IllegalArgumentException("createdAt 정렬용 커서가 아닙니다: " + cursor);
+            }
+            rows = (after == null)
+                    ? boardRepository.findSliceOrderByCreatedAt(limit)
+                    : boardRepository.findSliceOrderByCreatedAtAfter(after.createdAt(), after.id(), limit);
+        } else {
+            if (after != null && after.createdAt() != null) {
+                throw new IllegalArgumentException("id 정렬용 커서가 아닙니다: " + cursor);
+            }
+            rows = (after == null)
+                    ? boardRepository.findSliceOrderById(limit)
+                    : boardRepository.findSliceOrderByIdAfter(after.id(), limit);
+        }
+        rows = rows.stream().map(this::withPendingLikes).toList();
+
+        return CursorSliceDto.of(rows, size, dto -> sortByCreatedAt
+                ? new KeysetCursor(dto.getCreatedAt(), dto.getId())
+                : KeysetCursor.ofId(dto.getId()));
     }
 
-    public BoardResponseDto getBoardById(Long id) {
-        Board board = boardRepository.findById(id) 
-            .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + id));
+    /**
+     * 인기 게시글 목록입니다. 순위는 메모리의 스냅샷에서 페이지 구간만 꺼내고, 게시글은 id 목록으로 한 번에 조회합니다.
+     */
+    public Slice<BoardResponseDto> getHotBoards(int page, int size) {
+        long[] ids = hotBoardRanker.page(page, size);
+        boolean hasNext = (long) (page + 1) * size < hotBoardRanker.size();
+        if (ids.length == 0) {
+            return new SliceImpl<>(List.of(), PageRequest.of(page, size), false);
+        }
 
-        long likeCount = boardLikesRepository.countByBoardIdAndIsLike(id, true);
-        long dislikeCount = boardLikesRepository.countByBoardIdAndIsLike(id, false);
-        long commentCount = commentRepository.countByBoardId(board.getId());
+        Map<Long, BoardResponseDto> byId = boardRepository.findAllWithCountsByIdIn(Arrays.stream(ids).boxed().toList())
+                .stream()
+                .collect(Collectors.toMap(BoardResponseDto::getId, Function.identity()));
+        // 순위 갱신 이후 삭제된 게시글은 건너뜁니다.
+        List<BoardResponseDto> rows = Arrays.stream(ids)
+                .mapToObj(byId::get)
+                .filter(dto -> dto != null)
+                .map(this::withPendingLikes)
+                .toList();
+        return new SliceImpl<>(rows, PageRequest.of(page, size), hasNext);
+    }
+
+    public BoardResponseDto getBoardById(Long id) {
+        // 캐시에는 DB 에 반영된 상태만 담고, 버퍼의 미반영 증감분은 꺼낼 때마다 합산합니다.
+        BoardResponseDto cached = CacheConfig.getOrLoad(boardDetailCache, id, () -> {
+            Board board = boardRepository.findById(id) 
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + id));
 
-        return new BoardResponseDto(board, likeCount, dislikeCount, commentCount);
+            // 카운트는 Board 의 비정규화 컬럼에서 바로 읽습니다.
+            return new BoardResponseDto(board);
+        });
+        return withPendingLikes(cached);
     }
 
     public Board getBoardEntityById(Long id) {
@@ -61,36 +154,133 @@ public class BoardService {
 
     @Transactional
     public Board saveBoard(Board board) {
-        return boardRepository.save(board);
+        Board savedBoard = boardRepository.save(board);
+        boardDetailCache.evict(savedBoard.getId());
+        return savedBoard;
     }
 
+    /**
+     * 게시글의 제목/내용/작성자를 수정합니다.
+     * <p>
+     * expectedVersion(If-Match)이 있으면 미리 읽지 않고 버전 조건부 UPDATE 한 문장으로 바꾼 뒤 결과만 읽습니다.
+     * 없으면 읽어서 바꾼 뒤 바로 flush 하여, 그 사이 다른 수정이 커밋되었는지 @Version 으로 확인합니다.
+     * 어느 쪽이든 버전이 맞지 않으면 OptimisticLockingFailureException 입니다. (잠그고 기다리지 않습니다)
+     */
     @Transactional
-    public void deleteBoard(Long id) {
-        boardRepository.deleteById(id);
+    public BoardResponseDto updateBoard(Long id, BoardRequestDto request, Long expectedVersion) {
+        Board board;
+        if (expectedVersion != null) {
+            int updated = boardRepository.updateIfVersion(id, expectedVersion,
+                    request.getTitle(), request.getContent(), request.getAuthor(),
+                    SearchTokenizer.indexTokens(request.getTitle()), SearchTokenizer.indexTokens(request.getContent()),
+                    LocalDateTime.now());
+            if (updated == 0) {
+                if (!boardRepository.existsById(id)) {
+                    throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + id);
+                }
+                throw new OptimisticLockingFailureException("게시글이 이미 수정되었습니다: " + id);
+            }
+            board = getBoardEntityById(id);
+        } else {
+            board = getBoardEntityById(id);
+            board.setTitle(request.getTitle());
+            board.setContent(request.getContent());
+            board.setAuthor(request.getAuthor());
+            boardRepository.saveAndFlush(board);
+        }
+        boardDetailCache.evict(id);
+        return new BoardResponseDto(board);
     }
 
+    /**
+     * 게시글을 삭제합니다. 삭제 표시만 하고 바로 반환하며, 이후 조회에서는 보이지 않습니다.
+     * 딸린 좋아요/댓글과 게시글 행은 커밋 후 {@link BoardPurgeWorker} 가 나누어 지웁니다. 없는 게시글이면 아무것도 하지 않습니다.
+     */
     @Transactional
-    public void toggleLike(Long boardId, String author, boolean isLike) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + boardId));
-
-        Optional<BoardLikes> existingLike = boardLikesRepository.findByBoardIdAndAuthor(boardId, author);
-
-        if (existingLike.isPresent()) {
-            BoardLikes like = existingLike.get();
-            if (like.getIsLike() == isLike) {
-                boardLikesRepository.delete(like);
-            } else {
-                like.setIsLike(isLike);
-                boardLikesRepository.save(like);
+    public void deleteBoard(Long id) {
+        if (boardRepository.tombstone(id, LocalDateTime.now()) == 0) {
+            return;
+        }
+        eventPublisher.publishEvent(new BoardDeletedEvent(id));
+        boardDetailCache.evict(id);
+        commentTreeCache.evict(id);
+        hotBoardRanker.remove(id);
+    }
+
+    /**
+     * 좋아요/싫어요를 토글하고 토글 이후 상태를 반환합니다.
+     * 같은 값을 다시 누르면 취소, 반대 값을 누르면 전환, 없으면 추가합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LikeResponseDto toggleLike(Long boardId, String author, boolean isLike) {
+        if (likeToggleBuffer != null) {
+            // 버퍼 모드: 클릭마다 쓰기 트랜잭션을 열지 않습니다. 게시글 확인은 상세 캐시로 하고, 없을 때만 조회해 캐시를 채웁니다.
+            // 확인한 뒤에 삭제된 게시글의 토글은 버퍼가 반영할 때 버립니다. (LikeToggleBuffer.write)
+            getBoardById(boardId);
+            LikeToggleBuffer.ToggleResult result = likeToggleBuffer.toggle(boardId, author, isLike);
+            LikeToggleBuffer.LikeDelta delta = result.delta();
+            eventPublisher.publishEvent(new BoardLikeChangedEvent(boardId, delta.likeDelta(), delta.dislikeDelta()));
+            return new LikeResponseDto(boardId, author, result.state().name());
+        }
+        return transactionTemplate.execute(status -> toggleLikeNow(boardId, author, isLike));
+    }
+
+    // 즉시 반영 모드: 토글 문장, 캐시 축출, 이벤트 발행을 한 쓰기 트랜잭션에서 처리합니다. (축출과 이벤트는 커밋 후)
+    private LikeResponseDto toggleLikeNow(Long boardId, String author, boolean isLike) {
+        // 조회 후 쓰기 대신 유일 키 기준 upsert/delete 한 문장으로 처리하므로 동시 토글에도 중복 행이 생기지 않습니다.
+        String outcome = null;
+        try {
+            for (int attempt = 0; attempt < TOGGLE_ATTEMPTS && outcome == null; attempt++) {
+                outcome = boardLikesRepository.toggle(boardId, author, isLike, LocalDateTime.now());
+                // 없거나 삭제 표시된 게시글이면 문장이 아무것도 하지 않습니다.
+                if (outcome == null && !boardRepository.existsById(boardId)) {
+                    throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + boardId);
+                }
             }
-        } else {
-            BoardLikes newLike = BoardLikes.builder()
-                    .board(board)
-                    .author(author)
-                    .isLike(isLike)
-                    .build();
-            boardLikesRepository.save(newLike);
+        } catch (DataIntegrityViolationException e) {
+            // (board_id, author) 충돌은 ON CONFLICT 가 처리하므로 남는 위반은 게시글 FK 입니다.
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + boardId);
+        }
+        if (outcome == null) {
+            throw new IllegalStateException("동시 요청과 계속 겹쳐 좋아요를 반영하지 못했습니다.");
+        }
+
+        LikeToggleBuffer.ToggleResult result = toggleResult(outcome, isLike);
+        LikeToggleBuffer.LikeDelta delta = result.delta();
+
+        boardDetailCache.evict(boardId);
+        eventPublisher.publishEvent(new BoardLikeChangedEvent(boardId, delta.likeDelta(), delta.dislikeDelta()));
+        return new LikeResponseDto(boardId, author, result.state().name());
+    }
+
+    // 토글 쿼리의 결과(TOGGLE_*)를 토글 이후 상태와 카운터 증감분으로 바꿉니다. 쿼리가 카운터에 더하는 값(outcome CTE)과 같습니다.
+    static LikeToggleBuffer.ToggleResult toggleResult(String outcome, boolean isLike) {
+        LikeToggleBuffer.LikeState requested = isLike ? LikeToggleBuffer.LikeState.LIKE : LikeToggleBuffer.LikeState.DISLIKE;
+        return switch (outcome) {
+            case BoardLikesRepository.TOGGLE_INSERTED ->
+                    new LikeToggleBuffer.ToggleResult(requested, new LikeToggleBuffer.LikeDelta(isLike ? 1 : 0, isLike ? 0 : 1));
+            case BoardLikesRepository.TOGGLE_FLIPPED ->
+                    new LikeToggleBuffer.ToggleResult(requested, new LikeToggleBuffer.LikeDelta(isLike ? 1 : -1, isLike ? -1 : 1));
+            case BoardLikesRepository.TOGGLE_DELETED ->
+                    new LikeToggleBuffer.ToggleResult(LikeToggleBuffer.LikeState.NONE,
+                            new LikeToggleBuffer.LikeDelta(isLike ? -1 : 0, isLike ? 0 : -1));
+            default -> throw new IllegalStateException("알 수 없는 토글 결과입니다: " + outcome);
+        };
+    }
+
+    // 버퍼에 쌓여 아직 DB 에 반영되지 않은 좋아요/싫어요 증감분을 응답에 합산합니다.
+    // 캐시된 객체를 바꾸지 않도록 증감분이 있을 때는 복사본을 돌려줍니다.
+    private BoardResponseDto withPendingLikes(BoardResponseDto dto) {
+        if (likeToggleBuffer == null) {
+            return dto;
+        }
+        LikeToggleBuffer.LikeDelta delta = likeToggleBuffer.pendingDelta(dto.getId());
+        if (delta.likeDelta() == 0 && delta.dislikeDelta() == 0) {
+            return dto;
         }
+        return dto.toBuilder()
+                .likeCount(dto.getLikeCount() + delta.likeDelta())
+                .dislikeCount(dto.getDislikeCount() + delta.dislikeDelta())
+                .build();
     }
 }
@@ -1,91 +1,222 @@
 package com.pray.board.service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.pray.board.config.CacheConfig;
 import com.pray.board.dto.CommentRequestDto;
 import com.pray.board.dto.CommentResponseDto;
-import com.pray.board.entity.Board;
+import com.pray.board.dto.CommentTreeFingerprint;
+import com.pray.board.dto.CursorSliceDto;
+import com.pray.board.dto.KeysetCursor;
 import com.pray.board.entity.Comment;
+import com.pray.board.event.CommentCreatedEvent;
+import com.pray.board.event.CommentDeletedEvent;
+import com.pray.board.event.CommentUpdatedEvent;
 import com.pray.board.repository.BoardRepository;
 import com.pray.board.repository.CommentRepository;
+import com.pray.board.search.SearchTokenizer;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 
 @Service
+@Timed(value = "board.service", histogram = true)
 @Transactional(readOnly = true)
 public class CommentService {
     
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
+    private final Cache commentTreeCache;
+    private final Cache boardDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DistributionSummary treeSizeSummary;
 
-    public CommentService(CommentRepository commentRepository, BoardRepository boardRepository) {
+    public CommentService(CommentRepository commentRepository, BoardRepository boardRepository, CacheManager cacheManager,
+                          ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
         this.commentRepository = commentRepository;
         this.boardRepository = boardRepository;
+        this.commentTreeCache = cacheManager.getCache(CacheConfig.COMMENT_TREE);
+        this.boardDetailCache = cacheManager.getCache(CacheConfig.BOARD_DETAIL);
+        this.eventPublisher = eventPublisher;
+        this.treeSizeSummary = DistributionSummary.builder("board.comment.tree.size")
+                .description("DB 에서 조립한 게시글별 댓글 트리의 댓글 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     public List<CommentResponseDto> getCommentsByBoardId(Long boardId) {
-        // 1. 해당 게시글의 모든 댓글을 created_at 순서로 가져옵니다.
-        // Comment 엔티티 내 board 필드의 id를 참조하기 위해 findByBoard_Id를 사용합니다.
-        List<Comment> comments = commentRepository.findByBoardIdOrderByCreatedAtAsc(boardId);
-
-        // 2. Map을 사용하여 ID를 키로 CommentResponseDto 객체를 매핑합니다.
-        // 이렇게 하면 부모 댓글을 빠르게 찾을 수 있습니다.
-        Map<Long, CommentResponseDto> commentDtoMap = comments.stream()
-                .collect(Collectors.toMap(Comment::getId, CommentResponseDto::new));
-
-        // 3. 계층 구조를 만듭니다.
-        List<CommentResponseDto> rootComments = new ArrayList<>(); // 최상위 댓글들을 담을 리스트
-
-        commentDtoMap.values().forEach(commentDto -> {
-            if (commentDto.getParentId() == null) {
-                // parentId가 null이면 최상위 댓글이므로 rootComments 리스트에 추가합니다.
-                rootComments.add(commentDto);
-            } else {
-                // parentId가 있으면 대댓글이므로, 해당 parentId를 가진 부모 댓글을 Map에서 찾습니다.
-                CommentResponseDto parentDto = commentDtoMap.get(commentDto.getParentId());
-                if (parentDto != null) {
-                    // 부모 댓글이 존재하면, 부모 댓글의 children 리스트에 현재 대댓글을 추가합니다.
-                    parentDto.getChildren().add(commentDto);
-                }
-                // 참고: 만약 parentDto가 null인 경우는 부모 댓글이 존재하지 않거나,
-                // 어떤 이유로 Map에 포함되지 않은 경우입니다. 이 경우 해당 대댓글은 결과에 포함되지 않습니다.
-                // (예: 부모 댓글이 물리적으로 삭제되어 참조가 끊어진 경우 등, 정책에 따라 처리 방식이 달라질 수 있습니다.)
+        return CacheConfig.getOrLoad(commentTreeCache, boardId, () -> {
+            // 1. 해당 게시글의 모든 댓글을 표시 순서(path 순)대로 DTO 로 가져옵니다.
+            // path 가 (부모 경로 + 자신의 id) 이므로 정렬 결과가 곧 부모 → 자식, 형제는 작성 순입니다.
+            List<CommentResponseDto> rows = commentRepository.findTreeRowsByBoardId(boardId);
+            if (rows.isEmpty()) {
+                // 댓글이 있으면 조회 조건(게시글 조인)으로 이미 확인된 것이고, 비어 있을 때만 따로 확인합니다.
+                requireBoard(boardId);
             }
+            treeSizeSummary.record(rows.size());
+
+            // 2. 이미 정렬되어 있으므로 한 번 순회하며 부모의 children 에 붙이기만 하면 됩니다. (재귀 정렬 불필요)
+            return CommentTreeBuilder.build(rows);
         });
+    }
+
+    /** 댓글 트리의 현재 ETag 를 집계 쿼리 한 번으로 구합니다. 트리를 읽거나 조립하지 않습니다. */
+    public String getCommentTreeETag(Long boardId) {
+        CommentTreeFingerprint fingerprint = commentRepository.findTreeFingerprint(boardId);
+        if (fingerprint == null) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + boardId);
+        }
+        return fingerprint.toETag();
+    }
+
+    /** 특정 댓글을 루트로 하는 하위 트리를 한 번의 범위 조회로 가져옵니다. */
+    public CommentResponseDto getCommentSubtree(Long boardId, Long commentId) {
+        requireBoard(boardId);
+        String path = commentRepository.findPathByIdAndBoardId(commentId, boardId)
+                .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다: " + commentId));
+
+        List<CommentResponseDto> rows = commentRepository.findSubtreeRows(boardId, path, Comment.subtreeUpperBound(path));
+        return CommentTreeBuilder.build(rows).get(0);
+    }
+
+    /**
+     * 최상위 댓글을 (createdAt, id) 커서로 한 페이지씩 조회합니다.
+     * 각 댓글에는 먼저 작성된 대댓글을 최대 replies 건까지 함께 담고, 나머지는 repliesCursor 로 이어서 조회합니다.
+     */
+    public CursorSliceDto<CommentResponseDto> getRootComments(Long boardId, String cursor, int size, int replies) {
+        requireBoard(boardId);
+        KeysetCursor after = decodeCursor(cursor);
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<CommentResponseDto> rows = (after == null)
+                ? commentRepository.findRootSlice(boardId, limit)
+                : commentRepository.findRootSliceAfter(boardId, after.createdAt(), after.id(), limit);
+
+        CursorSliceDto<CommentResponseDto> slice = CursorSliceDto.of(rows, size, this::cursorOf);
+        attachReplies(boardId, slice.getContent(), replies);
+        return slice;
+    }
 
-        // 4. 각 댓글의 자식 댓글들(대댓글)을 생성 시간 기준으로 정렬합니다.
-        // 이렇게 해야 대댓글이 생성된 순서대로 표시됩니다.
-        rootComments.forEach(this::sortChildren);
+    /** 특정 댓글의 대댓글을 한 페이지씩 조회합니다. 하위 대댓글도 replies 건까지 인라인으로 담습니다. */
+    public CursorSliceDto<CommentResponseDto> getReplies(Long boardId, Long parentId, String cursor, int size, int replies) {
+        requireBoard(boardId);
+        KeysetCursor after = decodeCursor(cursor);
+        Pageable limit = PageRequest.ofSize(size + 1);
 
-        return rootComments; // 계층 구조가 완성된 최상위 댓글 리스트를 반환합니다.
+        List<CommentResponseDto> rows = (after == null)
+                ? commentRepository.findReplySlice(boardId, parentId, limit)
+                : commentRepository.findReplySliceAfter(boardId, parentId, after.createdAt(), after.id(), limit);
+
+        CursorSliceDto<CommentResponseDto> slice = CursorSliceDto.of(rows, size, this::cursorOf);
+        attachReplies(boardId, slice.getContent(), replies);
+        return slice;
+    }
+
+    /**
+     * 게시글의 댓글을 전체 목록으로 만들지 않고 DB 커서에서 읽는 대로 한 건씩 넘겨줍니다. (createdAt, id 순, 평면 구조)
+     * 소비자가 응답 스트림에 바로 쓰는 동안 트랜잭션(커넥션)이 유지됩니다.
+     * 응답을 시작한 뒤에는 404 로 바꿀 수 없으므로, 게시글 확인은 호출 측에서 먼저 {@link #requireBoard(Long)} 로 합니다.
+     */
+    public void streamComments(Long boardId, Consumer<CommentResponseDto> consumer) {
+        commentRepository.streamByBoardId(boardId, consumer);
     }
 
-    private void sortChildren(CommentResponseDto commentResponseDto) {
-        commentResponseDto.getChildren().sort(Comparator.comparing(CommentResponseDto::getCreatedAt));
-        commentResponseDto.getChildren().forEach(this::sortChildren);
+    /**
+     * 게시글이 없거나 삭제 표시되었으면 EntityNotFoundException 을 던집니다.
+     * 댓글 조회 쿼리는 board 를 조인하지 않아 Board 의 @SQLRestriction 이 걸리지 않으므로, 조회마다 먼저 확인합니다.
+     * (트리와 ETag 집계는 쿼리에서 게시글 조인으로 확인합니다)
+     * 상세 캐시에 있는 게시글은 살아 있는 것으로 봅니다. (삭제하면 커밋 후 evict)
+     */
+    public void requireBoard(Long boardId) {
+        if (boardDetailCache.get(boardId) == null && !boardRepository.existsById(boardId)) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + boardId);
+        }
+    }
+
+    private void attachReplies(Long boardId, List<CommentResponseDto> parents, int replies) {
+        if (parents.isEmpty()) {
+            return;
+        }
+        Map<Long, CommentResponseDto> parentMap = parents.stream()
+                .collect(Collectors.toMap(CommentResponseDto::getId, dto -> dto));
+
+        // 부모별로 replies + 1 건을 읽어 더 남아 있는지 판단합니다.
+        List<CommentResponseDto> children = commentRepository.findFirstRepliesByParentIds(parentMap.keySet(), replies + 1);
+        children.stream()
+                .filter(child -> boardId.equals(child.getBoardId()))
+                .forEach(child -> parentMap.get(child.getParentId()).getChildren().add(child));
+
+        List<CommentResponseDto> inlined = new ArrayList<>();
+        for (CommentResponseDto parent : parents) {
+            List<CommentResponseDto> parentChildren = parent.getChildren();
+            if (parentChildren.size() > replies) {
+                parent.setChildren(new ArrayList<>(parentChildren.subList(0, replies)));
+                parent.setRepliesCursor(replies > 0 ? cursorOf(parent.getChildren().get(replies - 1)).encode() : null);
+            }
+            parent.setHasReplies(!parentChildren.isEmpty());
+            inlined.addAll(parent.getChildren());
+        }
+
+        // 인라인으로 담은 대댓글은 자식이 있는지만 알려주고, 실제 목록은 필요할 때 따로 조회합니다.
+        if (!inlined.isEmpty()) {
+            Set<Long> withReplies = new HashSet<>(commentRepository.findParentIdsHavingReplies(
+                    inlined.stream().map(CommentResponseDto::getId).toList()));
+            inlined.forEach(child -> child.setHasReplies(withReplies.contains(child.getId())));
+        }
+    }
+
+    private KeysetCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+        if (decoded.createdAt() == null) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        return decoded;
+    }
+
+    private KeysetCursor cursorOf(CommentResponseDto dto) {
+        return new KeysetCursor(dto.getCreatedAt(), dto.getId());
     }
 
     @Transactional
     public CommentResponseDto createComment(Long boardId, CommentRequestDto requestDto) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + boardId));
+        // 게시글 카운터를 먼저 올리면서 존재 여부도 함께 확인합니다. (게시글 엔티티를 조회하지 않음)
+        if (boardRepository.addCommentCount(boardId, 1) == 0) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + boardId);
+        }
 
         Comment comment = Comment.builder()
                 .content(requestDto.getContent())
                 .author(requestDto.getAuthor())
-                .board(board)
+                .board(boardRepository.getReferenceById(boardId))
                 .build();
 
         // --- 여기에 부모 댓글 상태 검증 로직 추가 ---
+        String parentPath = null;
         if (requestDto.getParentId() != null) {
-            Comment parentComment = commentRepository.findById(requestDto.getParentId())
+            // 부모 댓글은 엔티티로 읽지 않고 경로만 조회합니다. 같은 게시글의 댓글이어야 합니다.
+            // (부모의 children 컬렉션을 초기화하지 않도록 addChildComment 대신 프록시 참조만 연결합니다)
+            parentPath = commentRepository.findPathByIdAndBoardId(requestDto.getParentId(), boardId)
                     .orElseThrow(() -> new EntityNotFoundException("부모 댓글을 찾을 수 없습니다: " + requestDto.getParentId()));
 
             // 부모 댓글이 삭제된 상태인지 확인
@@ -95,39 +226,92 @@ public class CommentService {
             //    // 또는 throw new IllegalStateException("삭제된 댓글에는 대댓글을 달 수 없습니다.");
             //}
 
-            comment.setParent(parentComment);
-            // 양방향 관계 설정 (Comment 엔티티에 addChildComment 메서드가 있다고 가정)
-            parentComment.addChildComment(comment);
+            if (parentPath.length() + Comment.PATH_SEGMENT_LENGTH > Comment.PATH_MAX_LENGTH) {
+                throw new IllegalStateException("댓글 깊이 제한을 초과했습니다.");
+            }
+            comment.setParent(commentRepository.getReferenceById(requestDto.getParentId()));
         }
         // --- 검증 로직 추가 끝 ---
 
+        // 경로가 자신의 id 로 끝나므로 id 를 먼저 받아 경로까지 채운 뒤 저장합니다. (INSERT 한 번, 이후 UPDATE 없음)
+        comment.setId(commentRepository.nextId());
+        comment.setPath(Comment.childPath(parentPath, comment.getId()));
         Comment savedComment = commentRepository.save(comment);
-        return new CommentResponseDto(savedComment);
+
+        // 댓글 트리와 게시글 상세(댓글 수)는 커밋 후 캐시에서 비웁니다.
+        commentTreeCache.evict(boardId);
+        boardDetailCache.evict(boardId);
+
+        // 연관 엔티티를 거치지 않고 이미 알고 있는 값으로 응답을 만듭니다.
+        CommentResponseDto created = new CommentResponseDto(savedComment.getId(), boardId, requestDto.getParentId(),
+                savedComment.getContent(), savedComment.getAuthor(),
+                savedComment.getCreatedAt(), savedComment.getUpdatedAt(), null, savedComment.getVersion());
+        // 인기 게시글 순위, 실시간 구독자 등은 커밋 후에 반영됩니다.
+        eventPublisher.publishEvent(new CommentCreatedEvent(boardId, created));
+        return created;
     }
 
+    /**
+     * 댓글 내용을 수정합니다. expectedVersion(If-Match)이 있으면 미리 읽지 않고 버전 조건부 UPDATE 로 바꾸고,
+     * 없으면 읽어서 바꾼 뒤 flush 할 때 @Version 으로 동시 수정을 확인합니다.
+     * 버전이 맞지 않으면 OptimisticLockingFailureException, 삭제된 댓글이면 IllegalStateException 입니다.
+     */
     @Transactional
-    public CommentResponseDto updateComment(Long commentId, CommentRequestDto commentRequestDto) {
-        Comment existingComment = commentRepository.findById(commentId)
-                                    .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다: "+ commentId));
+    public CommentResponseDto updateComment(Long boardId, Long commentId, CommentRequestDto commentRequestDto,
+                                            Long expectedVersion) {
+        Comment updatedComment;
+        if (expectedVersion != null) {
+            int updated = commentRepository.updateIfVersion(boardId, commentId, expectedVersion,
+                    commentRequestDto.getContent(), commentRequestDto.getAuthor(),
+                    SearchTokenizer.indexTokens(commentRequestDto.getContent()), LocalDateTime.now());
+            // 바뀐 행을 응답용으로 읽고, 바뀌지 않았다면 그 행으로 이유(없음, 삭제됨, 버전 불일치)를 가립니다.
+            updatedComment = findComment(boardId, commentId);
+            if (updated == 0) {
+                checkNotDeleted(updatedComment);
+                throw new OptimisticLockingFailureException("댓글이 이미 수정되었습니다: " + commentId);
+            }
+        } else {
+            Comment existingComment = findComment(boardId, commentId);
+            checkNotDeleted(existingComment);
 
-        if(existingComment.getDeletedAt() != null) {
-            throw new IllegalStateException("삭제된 댓글은 수정할 수 없습니다.");
+            existingComment.setContent(commentRequestDto.getContent());
+            existingComment.setAuthor(commentRequestDto.getAuthor());
+            updatedComment = commentRepository.saveAndFlush(existingComment);
         }
-
-        existingComment.setContent(commentRequestDto.getContent());
-        existingComment.setAuthor(commentRequestDto.getAuthor());
-
-        Comment updatedComment = commentRepository.save(existingComment);
-        return new CommentResponseDto(updatedComment);
+        commentTreeCache.evict(boardId);
+        CommentResponseDto updated = new CommentResponseDto(updatedComment);
+        eventPublisher.publishEvent(new CommentUpdatedEvent(boardId, updated));
+        return updated;
     }
 
     @Transactional
-    public void deleteComment(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
-                            .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다: " + commentId));
+    public void deleteComment(Long boardId, Long commentId) {
+        Comment comment = findComment(boardId, commentId);
+
+        // 이미 삭제된 댓글을 다시 삭제해도 카운트가 두 번 줄지 않도록 합니다.
+        if (comment.getDeletedAt() != null) {
+            return;
+        }
 
         // 소프트삭제, 자식도 삭제를 원하면 CascadeType.ALL 또는 orphanRemoval = true 셋팅
         comment.markAsDeleted();
         commentRepository.save(comment);
+        boardRepository.addCommentCount(boardId, -1);
+        commentTreeCache.evict(boardId);
+        boardDetailCache.evict(boardId);
+        eventPublisher.publishEvent(new CommentDeletedEvent(boardId, commentId));
+    }
+
+    private static void checkNotDeleted(Comment comment) {
+        if (comment.getDeletedAt() != null) {
+            throw new IllegalStateException("삭제된 댓글은 수정할 수 없습니다.");
+        }
+    }
+
+    // 다른 게시글의 댓글은 없는 것으로 취급합니다. (board 는 프록시이므로 id 비교에 추가 조회가 없습니다)
+    private Comment findComment(Long boardId, Long commentId) {
+        return commentRepository.findById(commentId)
+                .filter(comment -> comment.getBoard().getId().equals(boardId))
+                .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다: " + commentId));
     }
 }
@@ -0,0 +1,35 @@
+package com.pray.board.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.pray.board.dto.CommentResponseDto;
+
+/**
+ * 표시 순서(path 순)로 정렬된 댓글 목록을 계층 구조로 묶습니다.
+ * 입력이 이미 부모 → 자식, 형제는 작성 순으로 정렬되어 있으므로 별도의 정렬 없이 한 번 순회로 끝납니다.
+ */
+public final class CommentTreeBuilder {
+
+    private CommentTreeBuilder() {
+    }
+
+    public static List<CommentResponseDto> build(List<CommentResponseDto> orderedRows) {
+        Map<Long, CommentResponseDto> byId = new HashMap<>(orderedRows.size() * 2);
+        List<CommentResponseDto> roots = new ArrayList<>();
+
+        for (CommentResponseDto row : orderedRows) {
+            byId.put(row.getId(), row);
+            CommentResponseDto parent = (row.getParentId() != null ? byId.get(row.getParentId()) : null);
+            if (parent != null) {
+                parent.getChildren().add(row);
+            } else {
+                // 최상위 댓글이거나, 하위 트리 조회에서 기준이 되는 댓글입니다.
+                roots.add(row);
+            }
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,230 @@
+package com.pray.board.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.pray.board.event.BoardLikeChangedEvent;
+import com.pray.board.event.CommentCreatedEvent;
+import com.pray.board.repository.BoardActivityBucket;
+import com.pray.board.repository.BoardRepository;
+
+/**
+ * 최근 좋아요/싫어요/댓글에 지수 감쇠(반감기 half-life)를 적용한 점수로 인기 게시글 순위를 유지합니다.
+ * <p>
+ * 모든 점수는 기준 시각 epoch 로 환산하여 저장합니다. 시각 t 의 활동은 weight * 2^((t - epoch) / halfLife) 만큼 더해지므로
+ * 이미 쌓인 점수를 시간이 지날 때마다 다시 계산하지 않아도 순서가 유지됩니다.
+ * 환산 값이 계속 커지지 않도록 주기적으로 epoch 를 현재로 옮기며(rebase) 모든 점수에 같은 배율을 곱하고,
+ * 충분히 감쇠한 게시글은 버립니다.
+ * <p>
+ * 순위는 점수 순으로 정렬된 집합에 유지하고, 조회는 주기적으로 만든 상위 게시글 id 배열(snapshot)에서
+ * 페이지 구간만 잘라 반환하므로 페이지당 비용이 페이지 크기에만 비례합니다.
+ * 기동 시에는 DB 의 시간 단위 집계로 최근 활동을 다시 적재합니다.
+ */
+@Component
+public class HotBoardRanker {
+
+    private static final Logger log = LoggerFactory.getLogger(HotBoardRanker.class);
+
+    private record Entry(double score, long boardId) {
+    }
+
+    // 점수 내림차순, 같으면 최신 게시글(id 큰 쪽) 먼저
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::boardId).reversed());
+
+    private final BoardRepository boardRepository;
+    private final double decayPerMilli;
+    private final double likeWeight;
+    private final double dislikeWeight;
+    private final double commentWeight;
+    private final int capacity;
+    private final int snapshotSize;
+    private final double minScore;
+    private final long rebuildWindowHours;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // lock 으로 보호: 게시글별 현재 점수와 점수 순 정렬 집합은 항상 같은 내용을 가집니다.
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+    private long epochMillis;
+    private boolean dirty;
+
+    private volatile long[] snapshot = new long[0];
+
+    public HotBoardRanker(BoardRepository boardRepository,
+                          @Value("${board.hot.half-life-hours:6}") double halfLifeHours,
+                          @Value("${board.hot.weight.like:1.0}") double likeWeight,
+                          @Value("${board.hot.weight.dislike:-0.5}") double dislikeWeight,
+                          @Value("${board.hot.weight.comment:2.0}") double commentWeight,
+                          @Value("${board.hot.capacity:10000}") int capacity,
+                          @Value("${board.hot.snapshot-size:1000}") int snapshotSize,
+                          @Value("${board.hot.min-score:0.01}") double minScore,
+                          @Value("${board.hot.rebuild-window-hours:72}") long rebuildWindowHours) {
+        this.boardRepository = boardRepository;
+        this.decayPerMilli = Math.log(2) / (halfLifeHours * 3_600_000d);
+        this.likeWeight = likeWeight;
+        this.dislikeWeight = dislikeWeight;
+        this.commentWeight = commentWeight;
+        this.capacity = capacity;
+        this.snapshotSize = snapshotSize;
+        this.minScore = minScore;
+        this.rebuildWindowHours = rebuildWindowHours;
+        this.epochMillis = System.currentTimeMillis();
+    }
+
+    // 커밋된 변경만 반영합니다. 트랜잭션 밖에서 발행된 이벤트(버퍼 모드 등)도 바로 반영합니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(BoardLikeChangedEvent event) {
+        double weight = event.likeDelta() * likeWeight + event.dislikeDelta() * dislikeWeight;
+        add(event.boardId(), weight, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        add(event.boardId(), commentWeight, System.currentTimeMillis());
+    }
+
+    /** 순위의 page 번째 구간(크기 size)에 해당하는 게시글 id 를 반환합니다. */
+    public long[] page(int page, int size) {
+        long[] current = snapshot;
+        long from = (long) page * size;
+        if (from >= current.length) {
+            return new long[0];
+        }
+        return Arrays.copyOfRange(current, (int) from, (int) Math.min(from + size, current.length));
+    }
+
+    /** 현재 조회 가능한 순위의 길이입니다. */
+    public int size() {
+        return snapshot.length;
+    }
+
+    public void remove(Long boardId) {
+        lock.lock();
+        try {
+            Double score = scores.remove(boardId);
+            if (score != null) {
+                ranking.remove(new Entry(score, boardId));
+                dirty = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusHours(rebuildWindowHours);
+        List<BoardActivityBucket> buckets;
+        try {
+            buckets = boardRepository.findActivitySince(since);
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 순위를 DB 에서 재구성하지 못했습니다. 새 활동부터 집계합니다.", e);
+            return;
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        lock.lock();
+        try {
+            for (BoardActivityBucket bucket : buckets) {
+                // 시간 단위 구간의 중간 시각에 일어난 활동으로 봅니다.
+                long at = bucket.getBucket().atZone(zone).toInstant().toEpochMilli() + 1_800_000L;
+                double weight = bucket.getLikes() * likeWeight + bucket.getDislikes() * dislikeWeight
+                        + bucket.getComments() * commentWeight;
+                addLocked(bucket.getBoardId(), weight, at);
+            }
+            publishSnapshot();
+        } finally {
+            lock.unlock();
+        }
+        log.info("인기 게시글 순위 재구성: 집계 {}건, 게시글 {}건", buckets.size(), scores.size());
+    }
+
+    /** 기준 시각을 현재로 옮기고 감쇠한 점수를 정리합니다. */
+    @Scheduled(fixedDelayString = "${board.hot.rebase-interval-ms:600000}")
+    public void rebase() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            double factor = Math.exp(-decayPerMilli * (now - epochMillis));
+            epochMillis = now;
+
+            ranking.clear();
+            scores.replaceAll((boardId, score) -> score * factor);
+            scores.values().removeIf(score -> score < minScore);
+            scores.forEach((boardId, score) -> ranking.add(new Entry(score, boardId)));
+            publishSnapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.hot.snapshot-interval-ms:1000}")
+    public void refreshSnapshot() {
+        lock.lock();
+        try {
+            if (dirty) {
+                publishSnapshot();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(Long boardId, double weight, long atMillis) {
+        if (weight == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            addLocked(boardId, weight, atMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addLocked(Long boardId, double weight, long atMillis) {
+        double increment = weight * Math.exp(decayPerMilli * (atMillis - epochMillis));
+        Double previous = scores.get(boardId);
+        if (previous != null) {
+            ranking.remove(new Entry(previous, boardId));
+        }
+        double score = (previous != null ? previous : 0) + increment;
+        scores.put(boardId, score);
+        ranking.add(new Entry(score, boardId));
+
+        // 추적 대상 수를 제한합니다. 가장 낮은 점수부터 버립니다.
+        while (ranking.size() > capacity) {
+            Entry lowest = ranking.pollLast();
+            scores.remove(lowest.boardId());
+        }
+        dirty = true;
+    }
+
+    // 점수가 양수인 상위 snapshotSize 개의 id 를 새 배열로 만들어 한 번에 교체합니다.
+    private void publishSnapshot() {
+        long[] ids = ranking.stream()
+                .filter(entry -> entry.score() > 0)
+                .limit(snapshotSize)
+                .mapToLong(Entry::boardId)
+                .toArray();
+        snapshot = ids;
+        dirty = false;
+    }
+}
@@ -0,0 +1,43 @@
+package com.pray.board.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 같은 기준으로 각각 정렬된 목록들을 하나의 정렬된 목록으로 합칩니다. (k-way merge)
+ * <p>
+ * 힙에는 목록마다 아직 꺼내지 않은 첫 원소 하나씩만 두므로, 전부 모아 정렬하지 않고
+ * O(limit · log k) 로 앞에서부터 limit 건만 꺼냅니다.
+ */
+final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    private record Head<T>(T value, int source, int index) {
+    }
+
+    static <T> List<T> merge(List<? extends List<? extends T>> sorted, Comparator<? super T> order, int limit) {
+        PriorityQueue<Head<T>> heap = new PriorityQueue<>(Math.max(sorted.size(), 1),
+                (a, b) -> order.compare(a.value(), b.value()));
+        for (int source = 0; source < sorted.size(); source++) {
+            if (!sorted.get(source).isEmpty()) {
+                heap.add(new Head<>(sorted.get(source).get(0), source, 0));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heap.isEmpty()) {
+            Head<T> head = heap.poll();
+            merged.add(head.value());
+            List<? extends T> rest = sorted.get(head.source());
+            int next = head.index() + 1;
+            if (next < rest.size()) {
+                heap.add(new Head<>(rest.get(next), head.source(), next));
+            }
+        }
+        return merged;
+    }
+}
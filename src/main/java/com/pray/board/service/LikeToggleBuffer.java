@@ -0,0 +1,410 @@
+package com.pray.board.service;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pray.board.config.CacheConfig;
+import com.pray.board.entity.BoardLikes;
+import com.pray.board.repository.BoardLikesRepository;
+
+/**
+ * 좋아요/싫어요 토글을 메모리에 모았다가 주기적으로(또는 건수가 차면) 배치 JDBC 로 반영하는 write-behind 버퍼입니다.
+ * <p>
+ * boardId 기준으로 스트라이프를 나누어 잠금 경합을 줄이고, 같은 (게시글, 작성자)의 반복 토글은 최종 상태 하나로 합칩니다.
+ * 아직 반영되지 않은 증감분은 {@link #pendingDelta(Long)} 로 조회하여 읽기 결과에 합산합니다.
+ * {@code board.like.buffer.enabled=true} 일 때만 등록되며, 종료 시 남은 토글을 모두 반영합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "board.like.buffer", name = "enabled", havingValue = "true")
+public class LikeToggleBuffer implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeToggleBuffer.class);
+
+    // 다른 노드가 먼저 넣은 행과 겹쳐도 배치 전체가 실패하지 않도록 충돌한 행은 건너뛰고, 아래 UPDATE 로 최종 상태를 덮어씁니다.
+    // (충돌 대상 없는 DO NOTHING 은 PostgreSQL 과 H2(PostgreSQL 모드) 모두에서 동작합니다)
+    private static final String INSERT_SQL =
+            "INSERT INTO board_likes (board_id, author, is_like, created_at) VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING";
+    private static final String UPDATE_SQL =
+            "UPDATE board_likes SET is_like = ? WHERE board_id = ? AND author = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM board_likes WHERE board_id = ? AND author = ?";
+    private static final String COUNTER_SQL =
+            "UPDATE board SET like_count = like_count + ?, dislike_count = dislike_count + ? WHERE id = ?";
+
+    public enum LikeState {
+        NONE, LIKE, DISLIKE;
+
+        static LikeState of(Boolean isLike) {
+            if (isLike == null) {
+                return NONE;
+            }
+            return isLike ? LIKE : DISLIKE;
+        }
+
+        long likes() {
+            return this == LIKE ? 1 : 0;
+        }
+
+        long dislikes() {
+            return this == DISLIKE ? 1 : 0;
+        }
+    }
+
+    /** 게시글 단위로 합산된 미반영 증감분입니다. */
+    public record LikeDelta(long likeDelta, long dislikeDelta) {
+
+        static final LikeDelta ZERO = new LikeDelta(0, 0);
+    }
+
+    /** 토글 한 번의 결과: 토글 이후 상태와 그로 인한 증감분입니다. */
+    public record ToggleResult(LikeState state, LikeDelta delta) {
+    }
+
+    private record Key(long boardId, String author) {
+    }
+
+    private static final class PendingToggle {
+
+        // original: DB 에 반영되어 있는 상태, current: 사용자가 마지막으로 만든 상태
+        private final LikeState original;
+        private LikeState current;
+
+        private PendingToggle(LikeState original) {
+            this.original = original;
+            this.current = original;
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Key, PendingToggle> pending = new HashMap<>();
+        private Map<Long, long[]> pendingDeltas = new HashMap<>();
+        // 반영 중인 스냅샷: 커밋 전까지는 읽기 결과에 계속 합산되어야 합니다.
+        private Map<Key, PendingToggle> flushing = Map.of();
+        private Map<Long, long[]> flushingDeltas = Map.of();
+        private long generation;
+    }
+
+    private final BoardLikesRepository boardLikesRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache boardDetailCache;
+    private final Stripe[] stripes;
+    private final int maxPending;
+    private final int batchSize;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flushExecutor;
+
+    public LikeToggleBuffer(BoardLikesRepository boardLikesRepository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            CacheManager cacheManager,
+                            @Value("${board.like.buffer.stripes:64}") int stripeCount,
+                            @Value("${board.like.buffer.flush-interval-ms:1000}") long flushIntervalMs,
+                            @Value("${board.like.buffer.max-pending:10000}") int maxPending,
+                            @Value("${board.like.buffer.batch-size:500}") int batchSize) {
+        this.boardLikesRepository = boardLikesRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.boardDetailCache = cacheManager.getCache(CacheConfig.BOARD_DETAIL);
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "like-toggle-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 토글을 버퍼에 기록하고 토글 이후의 상태와 증감분을 반환합니다.
+     * 해당 (게시글, 작성자)를 처음 토글할 때만 DB 의 현재 상태를 조회합니다.
+     */
+    public ToggleResult toggle(Long boardId, String author, boolean isLike) {
+        Key key = new Key(boardId, author);
+        Stripe stripe = stripeFor(boardId);
+        LikeState requested = LikeState.of(isLike);
+
+        while (true) {
+            long generation;
+            stripe.lock.lock();
+            try {
+                PendingToggle toggle = stripe.pending.get(key);
+                if (toggle == null) {
+                    PendingToggle inFlight = stripe.flushing.get(key);
+                    if (inFlight != null) {
+                        toggle = new PendingToggle(inFlight.current);
+                        stripe.pending.put(key, toggle);
+                        pendingCount.incrementAndGet();
+                    }
+                }
+                if (toggle != null) {
+                    return apply(stripe, key, toggle, requested);
+                }
+                generation = stripe.generation;
+            } finally {
+                stripe.lock.unlock();
+            }
+
+            // DB 조회는 스트라이프 잠금 밖에서 수행합니다.
+            LikeState persisted = boardLikesRepository.findByBoardIdAndAuthor(boardId, author)
+                    .map(BoardLikes::getIsLike)
+                    .map(LikeState::of)
+                    .orElse(LikeState.NONE);
+
+            stripe.lock.lock();
+            try {
+                // 조회 사이에 같은 키가 반영(커밋)되었다면 조회 결과가 낡았을 수 있으므로 다시 시도합니다.
+                if (stripe.generation != generation || stripe.pending.containsKey(key) || stripe.flushing.containsKey(key)) {
+                    continue;
+                }
+                PendingToggle toggle = new PendingToggle(persisted);
+                stripe.pending.put(key, toggle);
+                pendingCount.incrementAndGet();
+                return apply(stripe, key, toggle, requested);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /** 아직 DB 에 반영되지 않은 해당 게시글의 좋아요/싫어요 증감분을 반환합니다. */
+    public LikeDelta pendingDelta(Long boardId) {
+        Stripe stripe = stripeFor(boardId);
+        stripe.lock.lock();
+        try {
+            long[] pending = stripe.pendingDeltas.get(boardId);
+            long[] flushing = stripe.flushingDeltas.get(boardId);
+            if (pending == null && flushing == null) {
+                return LikeDelta.ZERO;
+            }
+            long likes = (pending != null ? pending[0] : 0) + (flushing != null ? flushing[0] : 0);
+            long dislikes = (pending != null ? pending[1] : 0) + (flushing != null ? flushing[1] : 0);
+            return new LikeDelta(likes, dislikes);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** 버퍼에 쌓인 토글을 모두 DB 에 반영합니다. 동시에 하나의 스레드만 반영합니다. */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            for (Stripe stripe : stripes) {
+                flushStripe(stripe);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private ToggleResult apply(Stripe stripe, Key key, PendingToggle toggle, LikeState requested) {
+        LikeState before = toggle.current;
+        toggle.current = (before == requested) ? LikeState.NONE : requested;
+
+        LikeDelta change = new LikeDelta(toggle.current.likes() - before.likes(), toggle.current.dislikes() - before.dislikes());
+        long[] delta = stripe.pendingDeltas.computeIfAbsent(key.boardId(), id -> new long[2]);
+        delta[0] += change.likeDelta();
+        delta[1] += change.dislikeDelta();
+
+        // 토글이 원래 상태로 돌아왔다면 반영할 필요가 없습니다. (증감분도 이미 0 으로 상쇄되었습니다)
+        if (toggle.current == toggle.original) {
+            stripe.pending.remove(key);
+            pendingCount.decrementAndGet();
+        } else if (pendingCount.get() >= maxPending && !flushExecutor.isShutdown()
+                && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flushQuietly);
+        }
+        return new ToggleResult(toggle.current, change);
+    }
+
+    private void flushStripe(Stripe stripe) {
+        Map<Key, PendingToggle> snapshot;
+        Map<Long, long[]> snapshotDeltas;
+
+        stripe.lock.lock();
+        try {
+            if (stripe.pending.isEmpty()) {
+                stripe.pendingDeltas.clear();
+                return;
+            }
+            snapshot = stripe.pending;
+            snapshotDeltas = stripe.pendingDeltas;
+            stripe.flushing = snapshot;
+            stripe.flushingDeltas = snapshotDeltas;
+            stripe.pending = new HashMap<>();
+            stripe.pendingDeltas = new HashMap<>();
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        boolean committed = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(snapshot, snapshotDeltas));
+            committed = true;
+        } catch (RuntimeException e) {
+            log.error("좋아요 버퍼 반영 실패, 다음 주기에 다시 시도합니다: {}건", snapshot.size(), e);
+        } finally {
+            stripe.lock.lock();
+            try {
+                if (committed) {
+                    pendingCount.addAndGet(-snapshot.size());
+                } else {
+                    restore(stripe, snapshot, snapshotDeltas);
+                }
+                stripe.flushing = Map.of();
+                stripe.flushingDeltas = Map.of();
+                stripe.generation++;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    // 반영에 실패한 스냅샷을 그 사이 새로 쌓인 토글과 합칩니다.
+    private void restore(Stripe stripe, Map<Key, PendingToggle> snapshot, Map<Long, long[]> snapshotDeltas) {
+        snapshot.forEach((key, failed) -> {
+            PendingToggle newer = stripe.pending.get(key);
+            if (newer == null) {
+                stripe.pending.put(key, failed);
+                return;
+            }
+            // newer 는 failed.current 를 기준으로 만들어졌으므로 원래 상태는 failed.original 입니다.
+            PendingToggle merged = new PendingToggle(failed.original);
+            merged.current = newer.current;
+            pendingCount.decrementAndGet();
+            if (merged.current == merged.original) {
+                stripe.pending.remove(key);
+                pendingCount.decrementAndGet();
+            } else {
+                stripe.pending.put(key, merged);
+            }
+        });
+        snapshotDeltas.forEach((boardId, delta) -> {
+            long[] pending = stripe.pendingDeltas.computeIfAbsent(boardId, id -> new long[2]);
+            pending[0] += delta[0];
+            pending[1] += delta[1];
+        });
+    }
+
+    private void write(Map<Key, PendingToggle> snapshot, Map<Long, long[]> snapshotDeltas) {
+        // 그 사이 삭제(표시)된 게시글에 대한 토글은 버립니다. (FK 위반으로 배치 전체가 실패하지 않도록)
+        Set<Long> existingIds = new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT id FROM board WHERE id IN (:ids) AND deleted_at IS NULL",
+                new MapSqlParameterSource("ids", snapshotDeltas.keySet()),
+                Long.class));
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        snapshot.forEach((key, toggle) -> {
+            if (!existingIds.contains(key.boardId()) || toggle.current == toggle.original) {
+                return;
+            }
+            if (toggle.current == LikeState.NONE) {
+                deletes.add(new Object[] { key.boardId(), key.author() });
+            } else if (toggle.original == LikeState.NONE) {
+                inserts.add(new Object[] { key.boardId(), key.author(), toggle.current == LikeState.LIKE, now });
+            } else {
+                updates.add(new Object[] { toggle.current == LikeState.LIKE, key.boardId(), key.author() });
+            }
+        });
+
+        // 카운터는 게시글 id 순서로 갱신하여 동시 반영 간 교착을 피합니다.
+        List<Object[]> counters = new ArrayList<>();
+        new TreeMap<>(snapshotDeltas).forEach((boardId, delta) -> {
+            if (existingIds.contains(boardId) && (delta[0] != 0 || delta[1] != 0)) {
+                counters.add(new Object[] { delta[0], delta[1], boardId });
+            }
+        });
+
+        batch(DELETE_SQL, deletes);
+        batch(UPDATE_SQL, updates);
+        int[] inserted = batch(INSERT_SQL, inserts);
+        List<Object[]> conflicts = new ArrayList<>();
+        for (int i = 0; i < inserted.length; i++) {
+            // 0 건이면 충돌로 건너뛴 행이고, 드라이버가 건수를 알려 주지 않으면(SUCCESS_NO_INFO) 덮어써도 결과가 같습니다.
+            if (inserted[i] == 0 || inserted[i] == Statement.SUCCESS_NO_INFO) {
+                Object[] args = inserts.get(i);
+                conflicts.add(new Object[] { args[2], args[0], args[1] });
+            }
+        }
+        batch(UPDATE_SQL, conflicts);
+        batch(COUNTER_SQL, counters);
+
+        // 캐시된 상세 정보는 반영 전 값이므로 커밋 후 비웁니다. (트랜잭션 인지 캐시라 커밋 시점에 축출)
+        counters.forEach(args -> boardDetailCache.evict(args[2]));
+    }
+
+    // 각 행의 반영 건수를 args 순서대로 반환합니다.
+    private int[] batch(String sql, List<Object[]> args) {
+        int[] counts = new int[args.size()];
+        for (int from = 0; from < args.size(); from += batchSize) {
+            int[] chunk = jdbcTemplate.batchUpdate(sql, args.subList(from, Math.min(from + batchSize, args.size())));
+            System.arraycopy(chunk, 0, counts, from, chunk.length);
+        }
+        return counts;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("좋아요 버퍼 반영 중 오류", e);
+        }
+    }
+
+    private Stripe stripeFor(Long boardId) {
+        return stripes[Math.floorMod(Long.hashCode(boardId), stripes.length)];
+    }
+}
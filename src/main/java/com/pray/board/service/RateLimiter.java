@@ -0,0 +1,75 @@
+package com.pray.board.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 키(작성자, 게시글 등)별 토큰 버킷입니다. 초당 permitsPerSecond 개씩 채워지고 최대 burst 개까지 쌓입니다.
+ * <p>
+ * 버킷 상태는 "다음 토큰이 비는 이론상 시각" 하나(GCRA)로 표현하여 AtomicLong 의 CAS 로만 갱신하므로 잠그지 않습니다.
+ * 키 저장소는 최대 maxKeys 개의 Caffeine 캐시이고, 버킷이 가득 찰 만큼 쓰이지 않은 키는 지워도 상태가 같으므로
+ * 그 시간이 지나면 만료됩니다. (크기 한도로 밀려난 키는 가득 찬 버킷으로 다시 시작합니다)
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final Cache<Object, AtomicLong> buckets;
+    private final Counter rejected;
+
+    public RateLimiter(String name, double permitsPerSecond, int burst, long maxKeys, MeterRegistry meterRegistry) {
+        this(name, permitsPerSecond, burst, maxKeys, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(String name, double permitsPerSecond, int burst, long maxKeys, MeterRegistry meterRegistry, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("잘못된 제한 설정입니다: " + name + " " + permitsPerSecond + "/s, burst " + burst);
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .build();
+        this.rejected = Counter.builder("board.ratelimit.rejected")
+                .description("요청 한도를 넘어 거절한 요청 수")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder("board.ratelimit.keys", buckets, Cache::estimatedSize)
+                .description("요청 한도 버킷을 유지 중인 키 수")
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 하나를 씁니다. 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초를 돌려줍니다.
+     */
+    public long tryAcquire(Object key) {
+        long now = clock.getAsLong();
+        // 비어 있는 키는 지금 시각에서 시작합니다. (버킷이 가득 찬 상태)
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long theoretical = bucket.get();
+            long next = Math.max(theoretical, now) + intervalNanos;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                rejected.increment();
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(theoretical, next)) {
+                return 0;
+            }
+        }
+    }
+}
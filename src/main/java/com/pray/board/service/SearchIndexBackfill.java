@@ -0,0 +1,82 @@
+package com.pray.board.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pray.board.repository.SearchRepository;
+import com.pray.board.repository.SearchRepository.BackfillChunk;
+
+/**
+ * 검색 도입 이전에 저장된 게시글/댓글의 토큰 컬럼을 기동 후 청크 단위로 채웁니다.
+ * 새로 저장되는 행은 엔티티 콜백에서 토큰이 채워지므로, 토큰이 비어 있는 행이 없으면 조회 1회로 끝납니다.
+ * <p>
+ * 기동 스레드를 붙잡지 않도록 전용 스레드 하나에서 실행하고, 청크마다 id 순으로 이어서(keyset) 찾으므로
+ * 전체 작업량은 테이블 크기에 비례합니다. 중간에 종료되면 다음 기동 때 남은 행부터 다시 채웁니다.
+ */
+@Component
+public class SearchIndexBackfill implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexBackfill.class);
+
+    private final SearchRepository searchRepository;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    public SearchIndexBackfill(SearchRepository searchRepository,
+                               @Value("${board.search.backfill-chunk-size:1000}") int chunkSize) {
+        this.searchRepository = searchRepository;
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.execute(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.error("검색 색인 보강 실패, 다음 기동 때 남은 행부터 다시 시도합니다.", e);
+            }
+        });
+    }
+
+    void backfill() {
+        long boards = backfill(searchRepository::backfillBoards);
+        long comments = backfill(searchRepository::backfillComments);
+        if (boards > 0 || comments > 0) {
+            log.info("검색 색인 보강 완료: 게시글 {}건, 댓글 {}건", boards, comments);
+        }
+    }
+
+    private long backfill(BiFunction<Long, Integer, BackfillChunk> chunk) {
+        long total = 0;
+        long lastId = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            BackfillChunk done = chunk.apply(lastId, chunkSize);
+            total += done.rows();
+            lastId = done.lastId();
+            if (done.rows() < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,72 @@
+package com.pray.board.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.repository.SearchRepository;
+import com.pray.board.search.SearchTokenizer;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * 게시글(제목/내용)과 댓글 전문 검색입니다.
+ * 색인은 엔티티 저장 시 토큰 컬럼이 갱신되면서 DB 의 search_vector 가 함께 바뀌므로 별도 동기화가 필요 없습니다.
+ * 순위 정렬은 일치하는 행을 모두 점수 매긴 뒤 자르므로, 깊은 페이지는 max-results 까지만 허용합니다.
+ */
+@Service
+@Timed(value = "board.service", histogram = true)
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private final SearchRepository searchRepository;
+    private final int maxResults;
+
+    public SearchService(SearchRepository searchRepository,
+                         @Value("${board.search.max-results:1000}") int maxResults) {
+        this.searchRepository = searchRepository;
+        this.maxResults = maxResults;
+    }
+
+    public Slice<BoardResponseDto> searchBoards(String query, int page, int size) {
+        String tsQuery = toTsQuery(query);
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (tsQuery == null || pageRequest.getOffset() >= maxResults) {
+            return new SliceImpl<>(List.of(), pageRequest, false);
+        }
+        List<BoardResponseDto> rows = searchRepository.searchBoards(tsQuery, (int) pageRequest.getOffset(), size + 1);
+        return toSlice(rows, pageRequest);
+    }
+
+    public Slice<CommentResponseDto> searchComments(String query, Long boardId, int page, int size) {
+        String tsQuery = toTsQuery(query);
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (tsQuery == null || pageRequest.getOffset() >= maxResults) {
+            return new SliceImpl<>(List.of(), pageRequest, false);
+        }
+        List<CommentResponseDto> rows =
+                searchRepository.searchComments(tsQuery, boardId, (int) pageRequest.getOffset(), size + 1);
+        return toSlice(rows, pageRequest);
+    }
+
+    // 검색어에서 토큰이 하나도 나오지 않으면(기호만 입력 등) null
+    private static String toTsQuery(String query) {
+        List<String> terms = SearchTokenizer.queryTerms(query);
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    // size + 1 건을 읽어 다음 페이지 여부를 판단합니다.
+    private <T> Slice<T> toSlice(List<T> rows, PageRequest pageRequest) {
+        boolean hasNext = rows.size() > pageRequest.getPageSize()
+                && pageRequest.getOffset() + pageRequest.getPageSize() < maxResults;
+        List<T> content = rows.size() > pageRequest.getPageSize() ? rows.subList(0, pageRequest.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageRequest, hasNext);
+    }
+}
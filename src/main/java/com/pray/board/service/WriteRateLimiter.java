@@ -0,0 +1,59 @@
+package com.pray.board.service;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 쓰기 요청(좋아요 토글, 댓글 작성)의 요청 한도입니다. 작성자별 한도와 게시글별(한 게시글 행에 몰리는 쓰기) 한도를 함께 적용합니다.
+ * 컨트롤러에서 서비스를 부르기 전에 확인하므로, 거절된 요청은 트랜잭션을 열거나 DB 커넥션을 잡지 않습니다.
+ */
+@Component
+public class WriteRateLimiter {
+
+    private final boolean enabled;
+    private final RateLimiter likesByAuthor;
+    private final RateLimiter likesByBoard;
+    private final RateLimiter commentsByAuthor;
+    private final RateLimiter commentsByBoard;
+
+    public WriteRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${board.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${board.rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${board.rate-limit.likes.author-per-second:5}") double likeAuthorRate,
+                            @Value("${board.rate-limit.likes.author-burst:10}") int likeAuthorBurst,
+                            @Value("${board.rate-limit.likes.board-per-second:200}") double likeBoardRate,
+                            @Value("${board.rate-limit.likes.board-burst:400}") int likeBoardBurst,
+                            @Value("${board.rate-limit.comments.author-per-second:1}") double commentAuthorRate,
+                            @Value("${board.rate-limit.comments.author-burst:10}") int commentAuthorBurst,
+                            @Value("${board.rate-limit.comments.board-per-second:20}") double commentBoardRate,
+                            @Value("${board.rate-limit.comments.board-burst:50}") int commentBoardBurst) {
+        this.enabled = enabled;
+        this.likesByAuthor = new RateLimiter("likes.author", likeAuthorRate, likeAuthorBurst, maxKeys, meterRegistry);
+        this.likesByBoard = new RateLimiter("likes.board", likeBoardRate, likeBoardBurst, maxKeys, meterRegistry);
+        this.commentsByAuthor = new RateLimiter("comments.author", commentAuthorRate, commentAuthorBurst, maxKeys, meterRegistry);
+        this.commentsByBoard = new RateLimiter("comments.board", commentBoardRate, commentBoardBurst, maxKeys, meterRegistry);
+    }
+
+    /** 좋아요 토글: 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초 */
+    public long acquireLike(Long boardId, String author) {
+        return acquire(likesByAuthor, likesByBoard, boardId, author);
+    }
+
+    /** 댓글 작성: 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초 */
+    public long acquireComment(Long boardId, String author) {
+        return acquire(commentsByAuthor, commentsByBoard, boardId, author);
+    }
+
+    // 작성자 한도에서 거절되면 게시글 한도의 토큰은 쓰지 않습니다.
+    private long acquire(RateLimiter byAuthor, RateLimiter byBoard, Long boardId, String author) {
+        if (!enabled) {
+            return 0;
+        }
+        long waitNanos = byAuthor.tryAcquire(Objects.toString(author, ""));
+        return (waitNanos > 0) ? waitNanos : byBoard.tryAcquire(boardId);
+    }
+}
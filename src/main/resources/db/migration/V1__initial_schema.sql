@@ -0,0 +1,45 @@
+-- 기존 ddl-auto=update 로 만들어진 스키마와 같은 구조입니다.
+-- 이미 테이블이 있는 DB 에서도 실행되므로(baseline-version=0) 모든 문장은 있으면 건너뜁니다.
+
+CREATE SEQUENCE IF NOT EXISTS board_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS board (
+    id            bigint       NOT NULL PRIMARY KEY,
+    title         varchar(255) NOT NULL,
+    content       varchar(255) NOT NULL,
+    author        varchar(255) NOT NULL,
+    like_count    bigint       NOT NULL DEFAULT 0,
+    dislike_count bigint       NOT NULL DEFAULT 0,
+    comment_count bigint       NOT NULL DEFAULT 0,
+    created_at    timestamp(6),
+    updated_at    timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS board_likes (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    board_id   bigint       NOT NULL REFERENCES board (id),
+    author     varchar(255) NOT NULL,
+    is_like    boolean      NOT NULL,
+    created_at timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id         bigint        NOT NULL PRIMARY KEY,
+    board_id   bigint        NOT NULL REFERENCES board (id),
+    parent_id  bigint        REFERENCES comments (id),
+    content    varchar(1000) NOT NULL,
+    author     varchar(255)  NOT NULL,
+    path       varchar(1900),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    deleted_at timestamp(6)
+);
+
+-- ddl-auto 시절 중간에 추가된 컬럼들: 그 이전 버전으로 만들어진 DB 를 맞춥니다.
+ALTER TABLE board ADD COLUMN IF NOT EXISTS like_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE board ADD COLUMN IF NOT EXISTS dislike_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE board ADD COLUMN IF NOT EXISTS comment_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS path varchar(1900);
+
+CREATE INDEX IF NOT EXISTS idx_comments_board_path ON comments (board_id, path);
@@ -0,0 +1,27 @@
+-- 이전 schema-postgresql.sql 의 데이터 보정을 옮긴 것입니다. 새 DB 에서는 아무것도 바꾸지 않습니다.
+
+-- 구체화 경로(path)가 없는 기존 댓글의 경로를 채웁니다.
+-- 경로가 있는 부모(또는 루트)에서 시작하여 경로가 비어 있는 자손을 따라 내려갑니다.
+WITH RECURSIVE tree (id, path) AS (
+    SELECT c.id, COALESCE(p.path, '') || lpad(c.id::text, 19, '0')
+    FROM comments c
+    LEFT JOIN comments p ON p.id = c.parent_id
+    WHERE c.path IS NULL
+      AND (c.parent_id IS NULL OR p.path IS NOT NULL)
+    UNION ALL
+    SELECT c.id, t.path || lpad(c.id::text, 19, '0')
+    FROM comments c
+    JOIN tree t ON c.parent_id = t.id
+    WHERE c.path IS NULL
+)
+UPDATE comments SET path = tree.path
+FROM tree
+WHERE comments.id = tree.id;
+
+-- IDENTITY 에서 시퀀스(pooled, 50 단위)로 바꾼 뒤, 기존 최대 id 보다 작은 값을 발급하지 않도록 시퀀스를 맞춥니다.
+SELECT setval('board_seq', (SELECT MAX(id) FROM board))
+WHERE (SELECT last_value FROM board_seq) < (SELECT COALESCE(MAX(id), 0) FROM board);
+
+SELECT setval('comments_seq', (SELECT MAX(id) FROM comments))
+WHERE (SELECT last_value FROM comments_seq) < (SELECT COALESCE(MAX(id), 0) FROM comments);
+
@@ -0,0 +1,19 @@
+-- 전문 검색: 애플리케이션이 채우는 토큰 컬럼(SearchTokenizer)으로부터 tsvector 를 생성하고 GIN 으로 색인합니다.
+-- 'simple' 설정은 불용어/어간 처리 없이 토큰을 그대로 어휘로 쓰므로 한글 2-gram 토큰이 그대로 보존됩니다.
+-- 제목(A)이 내용(B)보다 높은 가중치를 가집니다. 기존 행의 토큰은 기동 후 SearchIndexBackfill 이 채웁니다.
+ALTER TABLE board ADD COLUMN IF NOT EXISTS title_tokens text;
+ALTER TABLE board ADD COLUMN IF NOT EXISTS content_tokens text;
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS search_tokens text;
+
+ALTER TABLE board ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', COALESCE(title_tokens, '')), 'A')
+        || setweight(to_tsvector('simple', COALESCE(content_tokens, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_board_search_vector ON board USING gin (search_vector);
+
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', COALESCE(search_tokens, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_comments_search_vector ON comments USING gin (search_vector);
@@ -0,0 +1,26 @@
+-- 자주 실행되는 조회 조건에 맞춘 인덱스와, 게시글당 작성자 한 명에 좋아요 한 건 제약입니다.
+
+-- 제약 추가 전에 같은 (board_id, author) 의 중복 행을 정리합니다. 가장 먼저 만들어진 행(id 최소)을 남깁니다.
+DELETE FROM board_likes l
+USING board_likes keep
+WHERE l.board_id = keep.board_id
+  AND l.author = keep.author
+  AND l.id > keep.id;
+
+-- 중복이 지워진 게시글의 카운터를 다시 계산합니다. (그 외 게시글은 BoardCounterReconciler 가 주기적으로 맞춥니다)
+UPDATE board b SET
+    like_count = (SELECT COUNT(*) FROM board_likes l WHERE l.board_id = b.id AND l.is_like = true),
+    dislike_count = (SELECT COUNT(*) FROM board_likes l WHERE l.board_id = b.id AND l.is_like = false)
+WHERE b.like_count + b.dislike_count <> (SELECT COUNT(*) FROM board_likes l WHERE l.board_id = b.id);
+
+-- findByBoardIdAndAuthor: 유일 인덱스가 조회와 board_id 외래 키를 함께 받칩니다.
+ALTER TABLE board_likes ADD CONSTRAINT uk_board_likes_board_author UNIQUE (board_id, author);
+
+-- countByBoardIdAndIsLike: 생성되는 SQL 은 COUNT(id) 이므로 id 를 포함(INCLUDE)하여 테이블을 읽지 않고(Index Only Scan) 셉니다.
+CREATE INDEX idx_board_likes_board_is_like ON board_likes (board_id, is_like) INCLUDE (id);
+
+-- findByBoardIdOrderByCreatedAtAsc, 최상위 댓글 커서(findRootSlice*): 정렬 없이 인덱스 순서로 읽습니다.
+CREATE INDEX idx_comments_board_created_at ON comments (board_id, created_at, id);
+
+-- 대댓글 커서(findReplySlice*), 대댓글 존재 여부, 부모별 대댓글 미리보기(ROW_NUMBER)
+CREATE INDEX idx_comments_parent_created_at ON comments (parent_id, created_at, id);
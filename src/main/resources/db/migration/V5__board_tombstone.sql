@@ -0,0 +1,6 @@
+-- 게시글 삭제는 삭제 표시(deleted_at)만 하고 즉시 응답하며, 딸린 좋아요/댓글과 게시글 행은
+-- BoardPurgeWorker 가 나중에 나누어 지웁니다. 남은 작업은 이 컬럼으로 찾으므로 재시작 후에도 이어집니다.
+ALTER TABLE board ADD COLUMN IF NOT EXISTS deleted_at timestamp(6);
+
+-- 지울 게시글 목록 조회용: 삭제 표시된 행은 소수이므로 부분 인덱스로 둡니다.
+CREATE INDEX IF NOT EXISTS idx_board_deleted_at ON board (deleted_at) WHERE deleted_at IS NOT NULL;
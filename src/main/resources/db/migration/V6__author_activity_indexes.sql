@@ -0,0 +1,6 @@
+-- 작성자별 활동(내 글 / 내 댓글 / 내 반응) 키셋 조회: author 로 좁힌 뒤 (created_at, id) 역순으로 인덱스를 그대로 읽습니다.
+CREATE INDEX idx_board_author_created_at ON board (author, created_at, id);
+
+CREATE INDEX idx_comments_author_created_at ON comments (author, created_at, id);
+
+CREATE INDEX idx_board_likes_author_created_at ON board_likes (author, created_at, id);
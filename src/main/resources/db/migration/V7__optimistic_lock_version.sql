@@ -0,0 +1,5 @@
+-- 게시글/댓글 수정의 낙관적 잠금(@Version)과 If-Match 조건부 수정에 쓰는 버전입니다.
+-- 기본값이 상수이므로 PostgreSQL 11 이상에서는 테이블을 다시 쓰지 않고 카탈로그만 바뀝니다.
+ALTER TABLE board ADD COLUMN version bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE comments ADD COLUMN version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- 댓글 id 를 하나씩 받습니다. (CommentIdGenerator)
+-- 노드마다 50개 블록을 받으면 id 가 노드 사이에서 섞여, id 로 끝나는 path 의 형제 순서가 작성 순서와 달라집니다.
+-- 이미 나눠 준 블록과 겹치지 않도록 다음 값은 현재 last_value 이후부터 이어집니다.
+ALTER SEQUENCE comments_seq INCREMENT BY 1;
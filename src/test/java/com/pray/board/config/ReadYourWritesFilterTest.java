@@ -0,0 +1,75 @@
+package com.pray.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/** 복제본 없이 primary 여부(ThreadLocal)가 어디까지 보이는지만 확인합니다. 실제 라우팅은 ReplicaRoutingDataSourceTest */
+class ReadYourWritesFilterTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void cacheLoaderAlwaysReadsFromPrimary() {
+        AtomicBoolean loadedOnPrimary = new AtomicBoolean();
+
+        String value = CacheConfig.getOrLoad(new ConcurrentMapCache("test"), 1L, () -> {
+            loadedOnPrimary.set(ReadYourWritesFilter.isPrimaryRequired());
+            return "loaded";
+        });
+
+        assertThat(value).isEqualTo("loaded");
+        assertThat(loadedOnPrimary).isTrue();
+        // 채우고 나면 원래대로 복제본을 씁니다.
+        assertThat(ReadYourWritesFilter.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    void primaryRequirementIsPropagatedToAsyncThreads() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(5_000);
+
+        assertThat(onAsyncThread(filter, new MockHttpServletRequest("POST", "/api/boards"))).isTrue();
+        assertThat(onAsyncThread(filter, new MockHttpServletRequest("GET", "/api/boards/1/comments/stream"))).isFalse();
+    }
+
+    @Test
+    void propagatedValueDoesNotLeakIntoPooledThread() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(5_000);
+        onAsyncThread(filter, new MockHttpServletRequest("POST", "/api/boards"));
+
+        // 같은 풀 스레드가 감싸지 않은 작업을 받으면 이전 요청의 값이 남아 있지 않아야 합니다.
+        assertThat(executor.submit(ReadYourWritesFilter::isPrimaryRequired).get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    // 요청 스레드에서 작업을 감싸 제출합니다. (applicationTaskExecutor 의 TaskDecorator 와 같은 위치)
+    private boolean onAsyncThread(ReadYourWritesFilter filter, MockHttpServletRequest request) throws Exception {
+        CompletableFuture<Boolean> seen = new CompletableFuture<>();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                executor.execute(ReadYourWritesFilter.propagate(() -> seen.complete(ReadYourWritesFilter.isPrimaryRequired())));
+            }
+        }));
+        return seen.get(5, TimeUnit.SECONDS);
+    }
+}
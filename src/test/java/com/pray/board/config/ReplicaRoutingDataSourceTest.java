@@ -0,0 +1,153 @@
+package com.pray.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 서로 독립된 PostgreSQL 두 개를 primary / 복제본으로 두고, 각 DB 의 node 테이블에 다른 이름을 넣어
+ * 어느 쪽에서 읽었는지로 라우팅을 확인합니다. (Docker 가 없으면 건너뜁니다)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String UNREACHABLE_URL = "jdbc:postgresql://127.0.0.1:1/none";
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeAll
+    static void markNodes() {
+        for (PostgreSQLContainer<?> container : List.of(PRIMARY, REPLICA)) {
+            try (HikariDataSource dataSource = hikari(container.getJdbcUrl(), container)) {
+                JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+                jdbc.execute("CREATE TABLE node (name text)");
+                jdbc.update("INSERT INTO node VALUES (?)", container == PRIMARY ? "primary" : "replica");
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (routing != null) {
+            routing.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        routing = routing(REPLICA.getJdbcUrl());
+
+        assertThat(readNode(true)).isEqualTo("replica");
+        assertThat(readNode(false)).isEqualTo("primary");
+        // 트랜잭션 밖(자동 커밋) JDBC 호출도 primary
+        assertThat(new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void readsWithinReadYourWritesWindowGoToPrimary() throws Exception {
+        routing = routing(REPLICA.getJdbcUrl());
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(5_000);
+
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        String duringWrite = throughFilter(filter, new MockHttpServletRequest("POST", "/api/boards"), writeResponse);
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(duringWrite).isEqualTo("primary");
+        assertThat(cookie).isNotNull();
+
+        MockHttpServletRequest followUp = new MockHttpServletRequest("GET", "/api/boards/1");
+        followUp.setCookies(new Cookie(cookie.getName(), cookie.getValue()));
+        assertThat(throughFilter(filter, followUp, new MockHttpServletResponse())).isEqualTo("primary");
+
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/boards/1");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1)));
+        assertThat(throughFilter(filter, expired, new MockHttpServletResponse())).isEqualTo("replica");
+    }
+
+    @Test
+    void unreachableReplicaIsSkippedAndPrimaryServesWhenNoneIsHealthy() {
+        routing = routing(UNREACHABLE_URL, REPLICA.getJdbcUrl());
+        routing.getReplicas().checkHealth();
+
+        assertThat(routing.getReplicas().getHealthyCount()).isEqualTo(1);
+        for (int i = 0; i < 4; i++) {
+            assertThat(readNode(true)).isEqualTo("replica");
+        }
+
+        routing.close();
+        routing = routing(UNREACHABLE_URL);
+        routing.getReplicas().checkHealth();
+
+        assertThat(routing.getReplicas().getHealthyCount()).isZero();
+        assertThat(readNode(true)).isEqualTo("primary");
+    }
+
+    private String readNode(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private String throughFilter(ReadYourWritesFilter filter, MockHttpServletRequest request, MockHttpServletResponse response)
+            throws Exception {
+        AtomicReference<String> node = new AtomicReference<>();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                node.set(readNode(true));
+            }
+        }));
+        return node.get();
+    }
+
+    private ReplicaRoutingDataSource routing(String... replicaUrls) {
+        List<HikariDataSource> replicas = Arrays.stream(replicaUrls)
+                .map(url -> {
+                    HikariDataSource replica = hikari(url, REPLICA);
+                    replica.setConnectionTimeout(500);
+                    return replica;
+                })
+                .toList();
+        HikariDataSource primary = hikari(PRIMARY.getJdbcUrl(), PRIMARY);
+        // 점검은 테스트에서 직접 호출합니다.
+        return new ReplicaRoutingDataSource(primary, new ReplicaPoolDataSource(primary, replicas, 3_600_000, 2_000));
+    }
+
+    private static HikariDataSource hikari(String url, PostgreSQLContainer<?> credentials) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(credentials.getUsername());
+        dataSource.setPassword(credentials.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        // 연결할 수 없는 주소에서도 풀 생성은 성공하도록 합니다.
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
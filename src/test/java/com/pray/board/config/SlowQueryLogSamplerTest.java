@@ -0,0 +1,69 @@
+package com.pray.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SlowQueryLogSamplerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SlowQueryLogSampler sampler;
+
+    @AfterEach
+    void tearDown() {
+        if (sampler != null) {
+            sampler.destroy();
+        }
+    }
+
+    @Test
+    void everySlowQueryIsCountedButOnlySampledOnesAreLogged() {
+        sampler = new SlowQueryLogSampler(meterRegistry, 0);
+        // 같은 JVM 에 떠 있는 다른 테스트 컨텍스트의 샘플러가 먼저 DENY 하면 이 샘플러까지 오지 않으므로 맨 앞에 둡니다.
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getTurboFilterList().remove(sampler);
+        context.getTurboFilterList().add(0, sampler);
+        Logger slowLogger = (Logger) LoggerFactory.getLogger(SlowQueryLogSampler.SLOW_QUERY_LOGGER);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        slowLogger.addAppender(appender);
+        try {
+            // Hibernate 와 같은 경로(jboss-logging)로 남깁니다. 레벨 확인 호출은 세지 않습니다.
+            org.jboss.logging.Logger.getLogger(SlowQueryLogSampler.SLOW_QUERY_LOGGER)
+                    .info("Slow query took 250 milliseconds [select 1]");
+            org.jboss.logging.Logger.getLogger(SlowQueryLogSampler.SLOW_QUERY_LOGGER)
+                    .info("Slow query took 300 milliseconds [select 2]");
+        } finally {
+            slowLogger.detachAppender(appender);
+        }
+
+        assertThat(appender.list).isEmpty();
+        assertThat(meterRegistry.get("board.db.slow-queries").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("board.db.slow-queries.dropped-logs").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void fullSampleRateLogsEverythingAndOtherLoggersAreUntouched() {
+        sampler = new SlowQueryLogSampler(meterRegistry, 1);
+        Logger slowLogger = new LoggerContext().getLogger(SlowQueryLogSampler.SLOW_QUERY_LOGGER);
+        Logger otherLogger = new LoggerContext().getLogger("org.hibernate.SQL");
+
+        assertThat(sampler.decide(null, slowLogger, Level.INFO, "Slow query took 250 milliseconds", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(sampler.decide(null, slowLogger, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(sampler.decide(null, otherLogger, Level.DEBUG, "select 1", null, null)).isEqualTo(FilterReply.NEUTRAL);
+
+        assertThat(meterRegistry.get("board.db.slow-queries").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.db.slow-queries.dropped-logs").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,81 @@
+package com.pray.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청당 SQL 문 수 집계: 스레드별 카운터(StatementCountingInspector)와 요청 단위 기록(StatementCountFilter)을 확인합니다.
+ */
+class StatementCountFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementCountingInspector inspector = new StatementCountingInspector();
+
+    @AfterEach
+    void tearDown() {
+        StatementCountingInspector.stop();
+    }
+
+    @Test
+    void inspectorCountsOnlyBetweenStartAndStopOnTheSameThread() throws Exception {
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+        assertThat(StatementCountingInspector.stop()).isZero();
+
+        StatementCountingInspector.start();
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        // 다른 스레드에서 준비한 문장은 세지 않습니다.
+        CompletableFuture.runAsync(() -> inspector.inspect("select 3")).get();
+
+        assertThat(StatementCountingInspector.stop()).isEqualTo(2);
+        assertThat(StatementCountingInspector.stop()).isZero();
+    }
+
+    @Test
+    void filterRecordsStatementsPerRequestByUriPattern() throws Exception {
+        StatementCountFilter filter = new StatementCountFilter(meterRegistry);
+
+        perform(filter, "/api/boards/{id}", 3);
+        perform(filter, "/api/boards/{id}", 1);
+        perform(filter, null, 0);
+
+        HistogramSnapshot detail = meterRegistry.get("board.http.statements")
+                .tag("uri", "/api/boards/{id}").tag("method", "GET").summary().takeSnapshot();
+        assertThat(detail.count()).isEqualTo(2);
+        assertThat(detail.total()).isEqualTo(4);
+        assertThat(detail.max()).isEqualTo(3);
+        assertThat(meterRegistry.get("board.http.statements").tag("uri", "UNKNOWN").summary().count()).isEqualTo(1);
+        // 요청이 끝나면 스레드의 카운터도 정리됩니다.
+        assertThat(StatementCountingInspector.stop()).isZero();
+    }
+
+    private void perform(StatementCountFilter filter, String pattern, int statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/1");
+        HttpServlet handler = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                for (int i = 0; i < statements; i++) {
+                    inspector.inspect("select " + i);
+                }
+                if (pattern != null) {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+                }
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(handler));
+    }
+}
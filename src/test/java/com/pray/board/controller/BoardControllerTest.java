@@ -0,0 +1,101 @@
+package com.pray.board.controller;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.service.CommentService;
+import com.pray.board.service.HotBoardRanker;
+
+/**
+ * 목록 응답의 모양(요약, fields=, 간단한 page 객체)과 커서 검증을 H2 에서 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private HotBoardRanker hotBoardRanker;
+
+    @Test
+    void hotBoardsUseTheSlimSliceEnvelope() throws Exception {
+        Long boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+        // 댓글 작성이 인기 점수에 반영됩니다.
+        commentService.createComment(boardId, new CommentRequestDto("아멘", "작성자", null));
+        hotBoardRanker.refreshSnapshot();
+
+        mockMvc.perform(get("/api/boards/hot").param("size", "5").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id").value(hasItem(boardId.intValue())))
+                .andExpect(jsonPath("$.content[0].title").exists())
+                .andExpect(jsonPath("$.content[0].preview").doesNotExist())
+                .andExpect(jsonPath("$.page.size").value(5))
+                .andExpect(jsonPath("$.page.number").value(0))
+                .andExpect(jsonPath("$.page.hasNext").isBoolean())
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist())
+                .andExpect(jsonPath("$.numberOfElements").doesNotExist());
+    }
+
+    @Test
+    void cursorFromTheOtherSortOrderIsRejected() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            boardRepository.save(Board.builder().title("제목 " + i).content("내용").author("작성자").build());
+        }
+        String idCursor = nextCursor("id");
+        String createdAtCursor = nextCursor("createdAt");
+
+        mockMvc.perform(get("/api/boards/cursor").param("size", "1").param("sort", "id").param("cursor", idCursor))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/boards/cursor").param("size", "1").param("sort", "createdAt").param("cursor", createdAtCursor))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/boards/cursor").param("size", "1").param("sort", "id").param("cursor", createdAtCursor))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/boards/cursor").param("size", "1").param("sort", "createdAt").param("cursor", idCursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchResultsUseTheSlimSliceEnvelope() throws Exception {
+        // 토큰이 나오지 않는 검색어는 DB 를 거치지 않고 빈 결과입니다.
+        for (String path : new String[] { "/api/search/boards", "/api/search/comments" }) {
+            mockMvc.perform(get(path).param("q", "!!!").param("page", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content").isEmpty())
+                    .andExpect(jsonPath("$.page.number").value(2))
+                    .andExpect(jsonPath("$.page.hasNext").value(false))
+                    .andExpect(jsonPath("$.pageable").doesNotExist())
+                    .andExpect(jsonPath("$.sort").doesNotExist());
+        }
+    }
+
+    private String nextCursor(String sort) throws Exception {
+        String body = mockMvc.perform(get("/api/boards/cursor").param("size", "1").param("sort", sort))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.nextCursor");
+    }
+}
@@ -0,0 +1,120 @@
+package com.pray.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.service.BoardService;
+import com.pray.board.service.CommentService;
+
+/**
+ * 댓글 조회 응답의 형태(NDJSON 스트림, 댓글 트리의 약한 ETag)와 삭제된 게시글의 404 를 H2 에서 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardService boardService;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+    }
+
+    @Test
+    void streamWritesOneNewlineTerminatedLinePerComment() throws Exception {
+        assertThat(stream()).isEmpty();
+
+        for (int i = 0; i < 3; i++) {
+            commentService.createComment(boardId, new CommentRequestDto("댓글 " + i, "작성자", null));
+        }
+        String body = stream();
+        assertThat(body).endsWith("}\n").doesNotContain("\n\n");
+        assertThat(body.split("\n")).hasSize(3).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+    }
+
+    @Test
+    void commentTreeHasWeakETagAndAnswersNotModified() throws Exception {
+        commentService.createComment(boardId, new CommentRequestDto("댓글", "작성자", null));
+
+        String etag = mockMvc.perform(get("/api/boards/{boardId}/comments", boardId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"c1-").endsWith("\"");
+
+        mockMvc.perform(get("/api/boards/{boardId}/comments", boardId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // 게시글 상세의 ETag 는 If-Match 에 쓰이므로 강한 ETag 로 남습니다.
+        assertThat(mockMvc.perform(get("/api/boards/{id}", boardId)).andReturn().getResponse().getHeader(HttpHeaders.ETAG))
+                .startsWith("\"b" + boardId);
+
+        commentService.createComment(boardId, new CommentRequestDto("새 댓글", "작성자", null));
+        mockMvc.perform(get("/api/boards/{boardId}/comments", boardId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void commentsOfDeletedBoardAreNotFound() throws Exception {
+        CommentResponseDto root = commentService.createComment(boardId, new CommentRequestDto("댓글", "작성자", null));
+        commentService.createComment(boardId, new CommentRequestDto("답글", "작성자", root.getId()));
+        // 트리와 상세를 캐시에 올려 둔 뒤 삭제합니다.
+        String etag = mockMvc.perform(get("/api/boards/{boardId}/comments", boardId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/boards/{id}", boardId)).andExpect(status().isOk());
+
+        boardService.deleteBoard(boardId);
+
+        mockMvc.perform(get("/api/boards/{boardId}/comments", boardId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/boards/{boardId}/comments", boardId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/boards/{boardId}/comments/roots", boardId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/boards/{boardId}/comments/{commentId}/replies", boardId, root.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/boards/{boardId}/comments/{commentId}/subtree", boardId, root.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/boards/{boardId}/comments/stream", boardId))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound());
+    }
+
+    private String stream() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/boards/{boardId}/comments/stream", boardId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+}
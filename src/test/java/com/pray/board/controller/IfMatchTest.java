@@ -0,0 +1,34 @@
+package com.pray.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class IfMatchTest {
+
+    @Test
+    void absentOrWildcardMeansUnconditional() {
+        assertThat(IfMatch.expectedVersion(null)).isNull();
+        assertThat(IfMatch.expectedVersion("")).isNull();
+        assertThat(IfMatch.expectedVersion("*")).isNull();
+        assertThat(IfMatch.expectedVersion(" * ")).isNull();
+    }
+
+    @Test
+    void versionIsReadFromDetailETagOrBareNumber() {
+        assertThat(IfMatch.expectedVersion("\"b12-v3-5-0-2\"")).isEqualTo(3);
+        assertThat(IfMatch.expectedVersion("b12-v3-5-0-2")).isEqualTo(3);
+        assertThat(IfMatch.expectedVersion("\"b12-v40\"")).isEqualTo(40);
+        assertThat(IfMatch.expectedVersion("\"7\"")).isEqualTo(7);
+        assertThat(IfMatch.expectedVersion(" 7 ")).isEqualTo(7);
+    }
+
+    @Test
+    void weakListsAndUnknownTagsNeverMatch() {
+        // If-Match 는 강한 비교만 하므로 약한 ETag 는 맞지 않습니다.
+        assertThat(IfMatch.expectedVersion("W/\"b12-v3-5-0-2\"")).isEqualTo(-1);
+        assertThat(IfMatch.expectedVersion("\"b12-v3-5-0-2\", \"b12-v4-5-0-2\"")).isEqualTo(-1);
+        assertThat(IfMatch.expectedVersion("\"c1f2e3\"")).isEqualTo(-1);
+        assertThat(IfMatch.expectedVersion("\"b12-vX-5-0-2\"")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,131 @@
+package com.pray.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.service.BoardService;
+import com.pray.board.service.CommentService;
+
+/**
+ * 게시글/댓글 수정의 If-Match 처리: 맞으면 200, 버전이 다르면 412, 없으면 404,
+ * If-Match 없이 동시 수정과 겹치면 409 인지 H2 에서 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OptimisticLockingControllerTest {
+
+    private static final String BOARD_BODY = "{\"title\":\"감사 제목\",\"content\":\"새 내용\",\"author\":\"작성자\"}";
+    private static final String COMMENT_BODY = "{\"content\":\"함께 기도합니다\",\"author\":\"작성자\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @MockitoSpyBean
+    private BoardService boardService;
+
+    @MockitoSpyBean
+    private CommentService commentService;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+    }
+
+    @Test
+    void boardUpdateWithDetailETagSucceedsOnceThenFailsPrecondition() throws Exception {
+        String etag = mockMvc.perform(get("/api/boards/{id}", boardId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String updatedEtag = mockMvc.perform(json(put("/api/boards/{id}", boardId), BOARD_BODY).header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.title").value("감사 제목"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedEtag).isNotEqualTo(etag).contains(IfMatch.VERSION_PREFIX + "1-");
+
+        // 같은 ETag 로 다시 보내면 이미 바뀐 버전이므로 412 입니다.
+        mockMvc.perform(json(put("/api/boards/{id}", boardId), BOARD_BODY).header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(json(put("/api/boards/{id}", boardId), BOARD_BODY).header(HttpHeaders.IF_MATCH, "W/" + updatedEtag))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void boardUpdateOfMissingBoardIsNotFound() throws Exception {
+        mockMvc.perform(json(put("/api/boards/{id}", -1L), BOARD_BODY).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(json(put("/api/boards/{id}", -1L), BOARD_BODY))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void boardUpdateWithoutIfMatchThatLosesARaceIsConflict() throws Exception {
+        doThrow(new OptimisticLockingFailureException("동시 수정"))
+                .when(boardService).updateBoard(anyLong(), any(), isNull());
+
+        mockMvc.perform(json(put("/api/boards/{id}", boardId), BOARD_BODY))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void commentUpdateReturnsOkPreconditionFailedAndNotFound() throws Exception {
+        Long commentId = commentService.createComment(boardId, new CommentRequestDto("아멘", "작성자", null)).getId();
+        String url = "/api/boards/{boardId}/comments/{commentId}";
+
+        mockMvc.perform(json(put(url, boardId, commentId), COMMENT_BODY).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.content").value("함께 기도합니다"));
+        mockMvc.perform(json(put(url, boardId, commentId), COMMENT_BODY).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(json(put(url, boardId, -1L), COMMENT_BODY).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isNotFound());
+        // 다른 게시글 경로로는 찾을 수 없습니다.
+        mockMvc.perform(json(put(url, -1L, commentId), COMMENT_BODY).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void commentUpdateWithoutIfMatchThatLosesARaceIsConflict() throws Exception {
+        Long commentId = commentService.createComment(boardId, new CommentRequestDto("아멘", "작성자", null)).getId();
+        doThrow(new OptimisticLockingFailureException("동시 수정"))
+                .when(commentService).updateComment(anyLong(), anyLong(), any(), isNull());
+
+        mockMvc.perform(json(put("/api/boards/{boardId}/comments/{commentId}", boardId, commentId), COMMENT_BODY))
+                .andExpect(status().isConflict());
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+}
@@ -0,0 +1,122 @@
+package com.pray.board.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 마이그레이션이 만든 인덱스를 저장소 쿼리가 실제로 사용하는지 PostgreSQL 의 EXPLAIN 으로 확인합니다.
+ * 행 수가 적으면 플래너가 순차 스캔을 고르므로 enable_seqscan 을 꺼서, 쓸 수 있는 인덱스가 없을 때만 Seq Scan 이 나오게 합니다.
+ * (Docker 가 없으면 건너뜁니다)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MigrationIndexUsageTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private Connection connection;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE board, board_likes, comments");
+            statement.execute("INSERT INTO board (id, title, content, author, created_at, updated_at) "
+                    + "SELECT g, '제목', '내용', 'author', now(), now() FROM generate_series(1, 200) g");
+            statement.execute("INSERT INTO board_likes (board_id, author, is_like, created_at) "
+                    + "SELECT b, 'user' || u, u % 3 <> 0, now() FROM generate_series(1, 200) b, generate_series(1, 20) u");
+            statement.execute("INSERT INTO comments (id, board_id, content, author, path, created_at, updated_at) "
+                    + "SELECT g, 1 + g % 200, '댓글', 'author', lpad(g::text, 19, '0'), now() - g * interval '1 second', now() "
+                    + "FROM generate_series(1, 4000) g");
+            // Index Only Scan 은 visibility map 이 채워져 있어야 선택되므로 VACUUM 까지 합니다.
+            statement.execute("VACUUM ANALYZE");
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void findByBoardIdAndAuthorUsesUniqueIndex() throws SQLException {
+        String plan = explain("SELECT * FROM board_likes WHERE board_id = 7 AND author = 'user3'");
+
+        assertThat(plan).contains("uk_board_likes_board_author").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void countByBoardIdAndIsLikeIsIndexOnly() throws SQLException {
+        String plan = explain("SELECT COUNT(id) FROM board_likes WHERE board_id = 7 AND is_like = true");
+
+        assertThat(plan).contains("Index Only Scan using idx_board_likes_board_is_like");
+    }
+
+    @Test
+    void findByBoardIdOrderByCreatedAtReadsInIndexOrder() throws SQLException {
+        String plan = explain("SELECT * FROM comments WHERE board_id = 7 ORDER BY created_at ASC");
+
+        assertThat(plan).contains("idx_comments_board_created_at").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void firstRepliesStopAfterPerParentRowsOfTheParentIndex() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE comments SET parent_id = 1 + id % 5 WHERE id > 5");
+            statement.execute("ANALYZE comments");
+        }
+        // CommentRepositoryImpl.findFirstRepliesByParentIds 와 같은 모양 (부모마다 인덱스 앞부분 perParent 건)
+        String plan = explain("SELECT r.* FROM comments p CROSS JOIN LATERAL ("
+                + " SELECT id, board_id, parent_id, content, author, created_at, updated_at, deleted_at, version"
+                + " FROM comments c WHERE c.parent_id = p.id ORDER BY c.created_at, c.id LIMIT 4"
+                + ") r WHERE p.id IN (1, 2, 3) ORDER BY r.parent_id, r.created_at, r.id");
+
+        assertThat(plan).contains("Limit").contains("idx_comments_parent_created_at")
+                .doesNotContain("WindowAgg").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void duplicateLikeIsRejected() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            assertThatThrownBy(() -> statement.execute(
+                    "INSERT INTO board_likes (board_id, author, is_like, created_at) VALUES (7, 'user3', true, now())"))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining("uk_board_likes_board_author");
+        }
+    }
+
+    private String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.pray.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SearchTokenizerTest {
+
+    @Test
+    void 한글은_2gram_으로_나누고_영문은_소문자_단어로_둔다() {
+        assertThat(SearchTokenizer.indexTokens("기도합니다, JPA를 배워요!"))
+                .isEqualTo("기도 도합 합니 니다 jpa 를 배워 워요");
+    }
+
+    @Test
+    void 조사가_붙은_색인에서도_어간_검색어가_일치한다() {
+        List<String> indexed = List.of(SearchTokenizer.indexTokens("가족의 건강을 위해 기도합니다").split(" "));
+
+        assertThat(indexed).containsAll(SearchTokenizer.queryTerms("건강"));
+        assertThat(indexed).containsAll(SearchTokenizer.queryTerms("기도"));
+    }
+
+    @Test
+    void 한_글자_한글_검색어는_접두_검색이다() {
+        assertThat(SearchTokenizer.queryTerms("꿈 Spring")).containsExactly("꿈:*", "spring");
+    }
+
+    @Test
+    void 기호만_있으면_토큰이_없다() {
+        assertThat(SearchTokenizer.queryTerms("!!! ...")).isEmpty();
+        assertThat(SearchTokenizer.indexTokens(null)).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pray.board.dto.ActivityDto;
+import com.pray.board.dto.CursorSliceDto;
+import com.pray.board.entity.Board;
+import com.pray.board.entity.Comment;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.repository.CommentRepository;
+
+/**
+ * 게시글/댓글/반응을 같은 시각이 겹치도록 만들고, 작은 페이지로 끝까지 넘겨 본 결과가
+ * 전체를 모아 정렬한 순서와 같은지(중복·누락 없음) 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ActivityServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String author;
+    private List<String> expected;
+
+    @BeforeEach
+    void setUp() {
+        author = "me-" + UUID.randomUUID();
+        expected = new ArrayList<>();
+
+        // 다른 사람의 게시글에 댓글과 반응을 남깁니다. 시각은 4 종류뿐이라 종류 사이에 같은 시각이 많습니다.
+        for (int i = 0; i < 7; i++) {
+            Board others = boardRepository.save(Board.builder().title("다른 글 " + i).content("내용").author("other")
+                    .createdAt(BASE).build());
+            Comment comment = commentRepository.save(Comment.builder().board(others).content("댓글 " + i).author(author)
+                    .createdAt(at(i)).build());
+            jdbcTemplate.update("INSERT INTO board_likes (board_id, author, is_like, created_at) VALUES (?, ?, ?, ?)",
+                    others.getId(), author, i % 2 == 0, at(i + 1));
+            Board mine = boardRepository.save(Board.builder().title("내 글 " + i).content("내용 " + i).author(author)
+                    .createdAt(at(i + 2)).build());
+            expected.add(key(ActivityDto.COMMENT, comment.getId(), at(i)));
+            expected.add(key(ActivityDto.POST, mine.getId(), at(i + 2)));
+        }
+        jdbcTemplate.query("SELECT id, created_at FROM board_likes WHERE author = ?",
+                rs -> {
+                    expected.add(key(ActivityDto.REACTION, rs.getLong(1), rs.getTimestamp(2).toLocalDateTime()));
+                }, author);
+    }
+
+    @Test
+    void pagingThroughMergedFeedMatchesFullSort() {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSliceDto<ActivityDto> page = activityService.getActivity(author, Set.of(), cursor, 4);
+            page.getContent().forEach(activity -> seen.add(key(activity.type(), activity.id(), activity.createdAt())));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(21).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(seen).isSortedAccordingTo((a, b) -> {
+            int byTime = b.substring(b.indexOf('@') + 1).compareTo(a.substring(a.indexOf('@') + 1));
+            if (byTime != 0) {
+                return byTime;
+            }
+            int byType = Integer.compare(ActivityService.TYPES.indexOf(type(a)), ActivityService.TYPES.indexOf(type(b)));
+            return (byType != 0) ? byType : Long.compare(id(b), id(a));
+        });
+    }
+
+    @Test
+    void typeFilterAndDeletedRowsAreExcluded() {
+        Long deleted = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM comments WHERE author = ?", Long.class, author);
+        jdbcTemplate.update("UPDATE comments SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?", deleted);
+
+        CursorSliceDto<ActivityDto> comments = activityService.getActivity(author, Set.of(ActivityDto.COMMENT), null, 50);
+
+        assertThat(comments.getContent()).hasSize(6)
+                .allMatch(activity -> ActivityDto.COMMENT.equals(activity.type()))
+                .noneMatch(activity -> activity.id().equals(deleted));
+        assertThat(comments.isHasNext()).isFalse();
+    }
+
+    private static LocalDateTime at(int i) {
+        return BASE.plusMinutes(i % 4);
+    }
+
+    private static String key(String type, Long id, LocalDateTime createdAt) {
+        return type + "#" + id + "@" + createdAt;
+    }
+
+    private static String type(String key) {
+        return key.substring(0, key.indexOf('#'));
+    }
+
+    private static long id(String key) {
+        return Long.parseLong(key.substring(key.indexOf('#') + 1, key.indexOf('@')));
+    }
+}
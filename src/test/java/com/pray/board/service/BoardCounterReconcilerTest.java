@@ -0,0 +1,140 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.service.LikeToggleBuffer.LikeDelta;
+
+/**
+ * 비정규화 카운터가 좋아요/댓글 작성/삭제로 원본과 같게 유지되는지, 어긋난 카운터를 재계산이 원본에 맞추는지 H2 에서 확인합니다.
+ * 좋아요는 버퍼 모드로 토글합니다. (즉시 반영 경로의 토글 쿼리는 PostgreSQL 전용)
+ */
+@SpringBootTest(properties = {
+        "board.like.buffer.enabled=true",
+        "board.like.buffer.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class BoardCounterReconcilerTest {
+
+    @Autowired
+    private BoardCounterReconciler reconciler;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikeToggleBuffer likeToggleBuffer;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+    }
+
+    @Test
+    void countersFollowLikesAndCommentsWithoutReconcile() {
+        boardService.toggleLike(boardId, "alice", true);
+        boardService.toggleLike(boardId, "bob", false);
+        boardService.toggleLike(boardId, "carol", true);
+        boardService.toggleLike(boardId, "carol", true); // 취소
+        CommentResponseDto first = commentService.createComment(boardId, new CommentRequestDto("댓글", "작성자", null));
+        commentService.createComment(boardId, new CommentRequestDto("답글", "작성자", first.getId()));
+        commentService.createComment(boardId, new CommentRequestDto("댓글 2", "작성자", null));
+        commentService.deleteComment(boardId, first.getId());
+        commentService.deleteComment(boardId, first.getId()); // 두 번 삭제해도 한 번만 줄어듭니다.
+        likeToggleBuffer.flush();
+
+        assertThat(counters()).containsExactly(1L, 1L, 2L);
+        assertThat(counters()).isEqualTo(sourceCounts());
+    }
+
+    @Test
+    void reconcileFlushesBufferAndRestoresDriftedCounters() {
+        commentService.createComment(boardId, new CommentRequestDto("댓글", "작성자", null));
+        boardService.toggleLike(boardId, "alice", true);
+        boardService.toggleLike(boardId, "bob", false);
+        jdbcTemplate.update("UPDATE board SET like_count = 99, dislike_count = 99, comment_count = 99 WHERE id = ?", boardId);
+
+        reconciler.reconcile();
+
+        // 버퍼에 남아 있던 토글은 먼저 반영되어 원본 행과 카운터에 함께 들어갑니다.
+        assertThat(likeToggleBuffer.pendingDelta(boardId)).isEqualTo(new LikeDelta(0, 0));
+        assertThat(counters()).containsExactly(1L, 1L, 1L);
+        assertThat(boardService.getBoardById(boardId).getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileWaitsForInFlightCommentTransaction() throws Exception {
+        CountDownLatch created = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            commentService.createComment(boardId, new CommentRequestDto("댓글", "작성자", null));
+            created.countDown();
+            await(commit);
+        }));
+        assertThat(created.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> reconcile = CompletableFuture.runAsync(reconciler::reconcile);
+        Thread.sleep(200);
+        // 카운터를 올린 트랜잭션이 게시글 행을 잡고 있으므로 재계산은 커밋을 기다립니다.
+        assertThat(reconcile).isNotDone();
+
+        commit.countDown();
+        writer.get(5, TimeUnit.SECONDS);
+        reconcile.get(5, TimeUnit.SECONDS);
+
+        assertThat(counters()).containsExactly(0L, 0L, 1L);
+    }
+
+    private List<Long> counters() {
+        return jdbcTemplate.queryForObject("SELECT like_count, dislike_count, comment_count FROM board WHERE id = ?",
+                (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3)), boardId);
+    }
+
+    private List<Long> sourceCounts() {
+        return List.of(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board_likes WHERE board_id = ? AND is_like = true", Long.class, boardId),
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board_likes WHERE board_id = ? AND is_like = false", Long.class, boardId),
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE board_id = ? AND deleted_at IS NULL", Long.class, boardId));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
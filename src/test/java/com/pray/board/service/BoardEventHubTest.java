@@ -0,0 +1,250 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pray.board.dto.BoardEventDto;
+import com.pray.board.event.BoardLikeChangedEvent;
+import com.pray.board.event.CommentDeletedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 실제 소켓 대신 보낸 프레임을 기록하거나 쓰기를 멈추게 할 수 있는 emitter 로 구독자별 전송을 확인합니다.
+ */
+class BoardEventHubTest {
+
+    private static final long TIMEOUT_MS = 5_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoardEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.destroy();
+        }
+    }
+
+    @Test
+    void eventsFanOutToEverySubscriberOfTheBoardInOrder() throws InterruptedException {
+        hub = hub(2, 16, 1_000);
+        List<TestEmitter> board1 = List.of(subscribe(1L, null), subscribe(1L, null), subscribe(1L, null));
+        TestEmitter board2 = subscribe(2L, null);
+
+        hub.onCommentDeleted(new CommentDeletedEvent(1L, 10L));
+        hub.onLikeChanged(new BoardLikeChangedEvent(1L, 0, 0)); // 변화 없음: 보내지 않습니다.
+        hub.onLikeChanged(new BoardLikeChangedEvent(1L, 1, 0));
+
+        for (TestEmitter emitter : board1) {
+            assertThat(emitter.next()).contains("event:" + BoardEventDto.COMMENT_DELETED);
+            assertThat(emitter.next()).contains("event:" + BoardEventDto.LIKE_CHANGED);
+        }
+        assertThat(board2.frames).isEmpty();
+        board1.forEach(emitter -> assertThat(emitter.frames).isEmpty());
+    }
+
+    @Test
+    void fullQueueDisconnectsSlowConsumerWithoutDelayingOthers() throws InterruptedException {
+        // 멈춘 구독자가 전송 스레드 하나를 잡고 있어도 남은 스레드로 다른 구독자에게 보냅니다.
+        hub = hub(2, 2, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        TestEmitter slow = subscribe(1L, release);
+        TestEmitter healthy = subscribe(1L, null);
+
+        slow.awaitSending(() -> hub.onCommentDeleted(new CommentDeletedEvent(1L, 0L)));
+        assertThat(healthy.next()).contains("event:" + BoardEventDto.COMMENT_DELETED);
+        // 멈춘 구독자의 큐(2칸)를 채우고 하나 더 넣으면 끊깁니다.
+        for (long i = 1; i <= 3; i++) {
+            hub.onCommentDeleted(new CommentDeletedEvent(1L, i));
+            assertThat(healthy.next()).contains("event:" + BoardEventDto.COMMENT_DELETED);
+        }
+        assertThat(slowConsumers()).isEqualTo(1);
+        // 구독에서는 빠졌지만 쓰기가 끝나기 전까지는 구독자 수에 남습니다.
+        assertThat(hub.getSubscriberCount()).isEqualTo(2);
+
+        // 멈춘 쓰기가 끝나면 남은 프레임은 버리고 연결을 닫습니다.
+        release.countDown();
+        await(() -> slow.completed);
+        await(() -> hub.getSubscriberCount() == 1);
+        assertThat(slow.sent).isEqualTo(1);
+    }
+
+    @Test
+    void stalledWritesAreDroppedAfterSendTimeout() throws InterruptedException {
+        hub = hub(8, 16, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        List<TestEmitter> stalled = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            stalled.add(subscribe(1L, release));
+        }
+        TestEmitter healthy = subscribe(1L, null);
+
+        hub.onCommentDeleted(new CommentDeletedEvent(1L, 1L));
+        assertThat(healthy.next()).isNotNull();
+
+        await(() -> slowConsumers() == 4);
+        hub.onCommentDeleted(new CommentDeletedEvent(1L, 2L));
+        assertThat(healthy.next()).isNotNull();
+        assertThat(hub.getSubscriberCount()).isEqualTo(5);
+
+        release.countDown();
+        for (TestEmitter emitter : stalled) {
+            await(() -> emitter.completed);
+            assertThat(emitter.sent).isEqualTo(1);
+        }
+        await(() -> hub.getSubscriberCount() == 1);
+    }
+
+    @Test
+    void stalledWriterKeepsItsSubscriberSlotUntilTheWriteEnds() throws InterruptedException {
+        hub = hub(2, 16, 100, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestEmitter stalled = subscribe(1L, release);
+
+        stalled.awaitSending(() -> hub.onCommentDeleted(new CommentDeletedEvent(1L, 1L)));
+        await(() -> slowConsumers() == 1);
+        assertThatThrownBy(() -> subscribe(1L, null)).isInstanceOf(IllegalStateException.class);
+
+        release.countDown();
+        await(() -> hub.getSubscriberCount() == 0);
+        TestEmitter next = subscribe(1L, null);
+        hub.onCommentDeleted(new CommentDeletedEvent(1L, 2L));
+        assertThat(next.next()).contains("event:" + BoardEventDto.COMMENT_DELETED);
+    }
+
+    @Test
+    void dispatchThreadsAreCappedRegardlessOfSubscriberCount() throws InterruptedException {
+        hub = hub(2, 16, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        List<TestEmitter> stalled = List.of(subscribe(1L, release), subscribe(1L, release));
+        stalled.get(0).awaitSending(() -> hub.onCommentDeleted(new CommentDeletedEvent(1L, 1L)));
+        stalled.get(1).awaitSending(() -> { });
+        TestEmitter waiting = subscribe(1L, null);
+
+        // 두 스레드가 모두 멈춘 쓰기에 잡혀 있으므로 세 번째 구독자의 전송은 새 스레드 없이 차례를 기다립니다.
+        hub.onCommentDeleted(new CommentDeletedEvent(1L, 2L));
+        assertThat(waiting.frames.poll(200, TimeUnit.MILLISECONDS)).isNull();
+
+        release.countDown();
+        assertThat(waiting.next()).contains("event:" + BoardEventDto.COMMENT_DELETED);
+    }
+
+    @Test
+    void unregisterDuringDispatchStopsFurtherSends() throws InterruptedException {
+        hub = hub(2, 16, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        TestEmitter emitter = subscribe(1L, release);
+
+        emitter.awaitSending(() -> hub.onCommentDeleted(new CommentDeletedEvent(1L, 1L)));
+        hub.onCommentDeleted(new CommentDeletedEvent(1L, 2L));
+        hub.onCommentDeleted(new CommentDeletedEvent(1L, 3L));
+        // 쓰는 도중 컨테이너가 연결 종료(완료)를 알립니다.
+        emitter.completion.run();
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+
+        release.countDown();
+        await(() -> emitter.completed);
+        await(() -> hub.getSubscriberCount() == 0);
+        hub.onCommentDeleted(new CommentDeletedEvent(1L, 4L));
+
+        Thread.sleep(100);
+        assertThat(emitter.sent).isEqualTo(1);
+        assertThat(slowConsumers()).isZero();
+    }
+
+    private BoardEventHub hub(int maxDispatchThreads, int queueCapacity, long sendTimeoutMs) {
+        return hub(maxDispatchThreads, queueCapacity, sendTimeoutMs, 100);
+    }
+
+    private BoardEventHub hub(int maxDispatchThreads, int queueCapacity, long sendTimeoutMs, int maxSubscribers) {
+        return new BoardEventHub(new ObjectMapper(), meterRegistry, maxDispatchThreads, queueCapacity, maxSubscribers,
+                60_000, 60_000, sendTimeoutMs);
+    }
+
+    private TestEmitter subscribe(Long boardId, CountDownLatch release) {
+        TestEmitter emitter = new TestEmitter(release);
+        hub.subscribe(boardId, emitter);
+        return emitter;
+    }
+
+    private double slowConsumers() {
+        return meterRegistry.get("board.sse.slow-consumers").counter().count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /** 보낸 프레임을 기록하고, release 가 있으면 열릴 때까지 쓰기를 멈춥니다. (멈춘 소켓) */
+    private static final class TestEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private volatile int sent;
+        private volatile boolean completed;
+        private Runnable completion;
+
+        private TestEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            sent++;
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completion = callback;
+        }
+
+        private String next() throws InterruptedException {
+            String frame = frames.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertThat(frame).as("프레임 대기 시간 초과").isNotNull();
+            return frame;
+        }
+
+        // action 으로 보낸 첫 프레임의 쓰기가 시작될 때까지 기다립니다.
+        private void awaitSending(Runnable action) throws InterruptedException {
+            action.run();
+            assertThat(sending.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pray.board.dto.BoardImportDto;
+import com.pray.board.dto.BulkImportResultDto;
+import com.pray.board.dto.CommentImportDto;
+import com.pray.board.entity.Comment;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 일괄 가져오기의 댓글 저장: 부모가 뒤에 나오는 긴 사슬, 경로, 깊이 제한과 순환 참조를 H2 에서 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardImportServiceTest {
+
+    private static final int MAX_DEPTH = Comment.PATH_MAX_LENGTH / Comment.PATH_SEGMENT_LENGTH;
+
+    @Autowired
+    private BoardImportService boardImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void parentsListedAfterTheirRepliesAreSavedFirstWithOneInsertEach() {
+        // 가장 깊은 댓글부터 나오는 최대 깊이의 사슬: c0 <- c1 <- ... <- c99
+        List<CommentImportDto> comments = new ArrayList<>();
+        for (int i = MAX_DEPTH - 1; i >= 0; i--) {
+            comments.add(new CommentImportDto("c" + i, i > 0 ? "c" + (i - 1) : null, "댓글 " + i, "작성자", null));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BulkImportResultDto result = boardImportService.importBoards(List.of(board("사슬", comments)).iterator());
+
+        assertThat(result.getError()).isNull();
+        assertThat(result.getImportedComments()).isEqualTo(MAX_DEPTH);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + MAX_DEPTH);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT c.id, c.parent_id, c.path, c.content, c.version FROM comments c JOIN board b ON b.id = c.board_id"
+                        + " WHERE b.title = '사슬' ORDER BY c.path");
+        assertThat(rows).hasSize(MAX_DEPTH);
+        String path = null;
+        Object parentId = null;
+        for (int i = 0; i < MAX_DEPTH; i++) {
+            Map<String, Object> row = rows.get(i);
+            path = Comment.childPath(path, (Long) row.get("id"));
+            assertThat(row).containsEntry("content", "댓글 " + i).containsEntry("path", path).containsEntry("version", 0L);
+            assertThat(row.get("parent_id")).isEqualTo(parentId);
+            parentId = row.get("id");
+        }
+    }
+
+    @Test
+    void chainsDeeperThanThePathLimitAreRejected() {
+        List<CommentImportDto> comments = new ArrayList<>();
+        for (int i = 10_000; i >= 0; i--) {
+            comments.add(new CommentImportDto("c" + i, i > 0 ? "c" + (i - 1) : null, "댓글", "작성자", null));
+        }
+
+        BulkImportResultDto result = boardImportService.importBoards(List.of(board("너무 깊음", comments)).iterator());
+
+        assertThat(result.getError()).contains("깊이 제한");
+        assertThat(result.getImportedBoards()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board WHERE title = '너무 깊음'", Long.class)).isZero();
+    }
+
+    @Test
+    void cyclicParentRefsAreRejected() {
+        List<CommentImportDto> comments = List.of(
+                new CommentImportDto("a", "c", "댓글", "작성자", LocalDateTime.now()),
+                new CommentImportDto("b", "a", "댓글", "작성자", null),
+                new CommentImportDto("c", "b", "댓글", "작성자", null));
+
+        BulkImportResultDto result = boardImportService.importBoards(List.of(board("순환", comments)).iterator());
+
+        assertThat(result.getError()).contains("순환 참조");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board WHERE title = '순환'", Long.class)).isZero();
+    }
+
+    private static BoardImportDto board(String title, List<CommentImportDto> comments) {
+        return new BoardImportDto(title, "내용", "작성자", null, new ArrayList<>(comments));
+    }
+}
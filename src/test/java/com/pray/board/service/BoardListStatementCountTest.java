@@ -0,0 +1,87 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 게시글 목록이 좋아요/싫어요/댓글 수를 게시글별 집계 없이 한 번의 프로젝션 쿼리(+ 전체 건수)로 읽는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardListStatementCountTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardCounterReconciler reconciler;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> boardIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Long boardId = boardRepository.save(Board.builder().title("기도 제목 " + i).content("내용").author("작성자").build()).getId();
+            boardIds.add(boardId);
+            for (int c = 0; c <= i; c++) {
+                commentService.createComment(boardId, new CommentRequestDto("댓글 " + c, "작성자", null));
+            }
+            // 좋아요 토글 쿼리는 PostgreSQL 전용이라 원본 행을 직접 넣고 재계산으로 카운터를 맞춥니다.
+            for (int l = 0; l < i; l++) {
+                jdbcTemplate.update("INSERT INTO board_likes (board_id, author, is_like, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)",
+                        boardId, "user" + l, l % 2 == 0);
+            }
+        }
+        reconciler.reconcile();
+    }
+
+    @Test
+    void pageOfBoardsWithCountsIsReadWithOneQueryPlusCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // 가장 최근에 만든 세 게시글이 한 페이지를 채우므로 전체 건수 쿼리도 나갑니다.
+        Page<BoardResponseDto> page = boardService.getAllBoards(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(page.getContent()).extracting(BoardResponseDto::getId).containsExactly(boardIds.get(2), boardIds.get(1), boardIds.get(0));
+        assertThat(page.getContent()).extracting(BoardResponseDto::getCommentCount).containsExactly(3L, 2L, 1L);
+        assertThat(page.getContent()).extracting(BoardResponseDto::getLikeCount).containsExactly(1L, 1L, 0L);
+        assertThat(page.getContent()).extracting(BoardResponseDto::getDislikeCount).containsExactly(1L, 0L, 0L);
+    }
+}
@@ -0,0 +1,103 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 게시글 삭제는 즉시 보이지 않게 되고, 좋아요/댓글/게시글 행은 백그라운드 정리로 여러 chunk 에 걸쳐 지워지는지 확인합니다.
+ */
+@SpringBootTest(properties = "board.purge.chunk-size=7")
+@ActiveProfiles("test")
+class BoardPurgeWorkerTest {
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardPurgeWorker purgeWorker;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+        List<Object[]> likes = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            likes.add(new Object[] { boardId, "user" + i, i % 3 != 0 });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO board_likes (board_id, author, is_like, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)", likes);
+
+        // 답글이 부모보다 먼저 지워져야 하는 깊은 사슬과 넓은 가지를 섞습니다.
+        Long parentId = null;
+        for (int i = 0; i < 25; i++) {
+            CommentResponseDto created = commentService.createComment(boardId,
+                    new CommentRequestDto("댓글 " + i, "작성자", (i % 5 == 0) ? null : parentId));
+            parentId = created.getId();
+        }
+    }
+
+    @Test
+    void deletedBoardIsHiddenImmediatelyAndPurgedInBackground() throws InterruptedException {
+        boardService.deleteBoard(boardId);
+
+        assertThatThrownBy(() -> boardService.getBoardById(boardId)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(boardRepository.existsById(boardId)).isFalse();
+
+        awaitPurged();
+        assertThat(count("board_likes")).isZero();
+        assertThat(count("comments")).isZero();
+    }
+
+    @Test
+    void tombstonedBoardLeftOverFromPreviousRunIsPurgedOnResume() throws InterruptedException {
+        // 이벤트 없이 삭제 표시만 남은 상태 (정리 도중 종료된 경우)
+        jdbcTemplate.update("UPDATE board SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?", boardId);
+
+        purgeWorker.resume();
+
+        awaitPurged();
+        assertThat(count("board_likes")).isZero();
+        assertThat(count("comments")).isZero();
+    }
+
+    private void awaitPurged() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board WHERE id = ?", Long.class, boardId) > 0) {
+            assertThat(System.currentTimeMillis()).as("정리 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE board_id = ?", Long.class, boardId);
+    }
+}
@@ -0,0 +1,113 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pray.board.config.CacheConfig;
+import com.pray.board.dto.BoardRequestDto;
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+
+/**
+ * 게시글 상세/댓글 트리 캐시가 쓰기가 커밋된 뒤에만 비워지고, 롤백된 쓰기로는 비워지지 않는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheEvictionTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Cache boardDetailCache;
+    private Cache commentTreeCache;
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardDetailCache = cacheManager.getCache(CacheConfig.BOARD_DETAIL);
+        commentTreeCache = cacheManager.getCache(CacheConfig.COMMENT_TREE);
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+        boardService.getBoardById(boardId);
+        commentService.getCommentsByBoardId(boardId);
+    }
+
+    @Test
+    void updateEvictsDetailOnlyAfterCommit() {
+        inTransaction(false, () -> {
+            boardService.updateBoard(boardId, new BoardRequestDto("새 제목", "내용", "작성자"), null);
+            // 트랜잭션 인지 캐시라 축출은 커밋 시점까지 미뤄집니다.
+            assertThat(boardDetailCache.get(boardId)).isNotNull();
+        });
+
+        assertThat(boardDetailCache.get(boardId)).isNull();
+        assertThat(boardService.getBoardById(boardId).getTitle()).isEqualTo("새 제목");
+    }
+
+    @Test
+    void rolledBackWritesLeaveCachesIntact() {
+        inTransaction(true, () -> {
+            boardService.updateBoard(boardId, new BoardRequestDto("롤백될 제목", "내용", "작성자"), null);
+            commentService.createComment(boardId, new CommentRequestDto("롤백될 댓글", "작성자", null));
+            boardService.deleteBoard(boardId);
+        });
+
+        assertThat(boardDetailCache.get(boardId)).isNotNull();
+        assertThat(commentTreeCache.get(boardId)).isNotNull();
+        assertThat(boardService.getBoardById(boardId).getTitle()).isEqualTo("기도 제목");
+        assertThat(commentService.getCommentsByBoardId(boardId)).isEmpty();
+    }
+
+    @Test
+    void commentCreateEvictsTreeAndDetailAfterCommit() {
+        commentService.createComment(boardId, new CommentRequestDto("댓글", "작성자", null));
+
+        assertThat(commentTreeCache.get(boardId)).isNull();
+        assertThat(boardDetailCache.get(boardId)).isNull();
+        assertThat(commentService.getCommentsByBoardId(boardId)).hasSize(1);
+        assertThat(boardService.getBoardById(boardId).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteEvictsBothCachesAfterCommit() {
+        inTransaction(false, () -> {
+            boardService.deleteBoard(boardId);
+            assertThat(boardDetailCache.get(boardId)).isNotNull();
+            assertThat(commentTreeCache.get(boardId)).isNotNull();
+        });
+
+        assertThat(boardDetailCache.get(boardId)).isNull();
+        assertThat(commentTreeCache.get(boardId)).isNull();
+    }
+
+    // 서비스 호출을 바깥 트랜잭션 하나로 묶어, 커밋(또는 롤백) 전후의 캐시 상태를 봅니다.
+    private void inTransaction(boolean rollback, Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            action.run();
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.dto.CommentTreeFingerprint;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentServiceStatementCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+    }
+
+    @Test
+    void createReplyDoesNotLoadParentOrItsChildren() {
+        CommentResponseDto root = commentService.createComment(boardId, new CommentRequestDto("루트", "작성자", null));
+        for (int i = 0; i < 50; i++) {
+            commentService.createComment(boardId, new CommentRequestDto("답글 " + i, "작성자", root.getId()));
+        }
+
+        statistics.clear();
+        commentService.createComment(boardId, new CommentRequestDto("답글", "작성자", root.getId()));
+
+        // 카운터 UPDATE, 부모 경로 SELECT, nextval, 댓글 INSERT
+        // 경로는 id 를 먼저 받아 INSERT 에 함께 넣으므로 댓글 UPDATE 는 없습니다.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void commentTreeIsReadWithOneStatementRegardlessOfSize() {
+        Long parentId = null;
+        for (int i = 0; i < 100; i++) {
+            // 10 단계 깊이의 사슬을 여러 개 만듭니다.
+            CommentResponseDto created = commentService.createComment(boardId,
+                    new CommentRequestDto("댓글 " + i, "작성자", (i % 10 == 0) ? null : parentId));
+            parentId = created.getId();
+        }
+
+        statistics.clear();
+        List<CommentResponseDto> tree = commentService.getCommentsByBoardId(boardId);
+
+        assertThat(tree).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void treeETagIsComputedWithOneStatementAndMatchesAssembledTree() {
+        CommentResponseDto root = commentService.createComment(boardId, new CommentRequestDto("루트", "작성자", null));
+        commentService.createComment(boardId, new CommentRequestDto("답글", "작성자", root.getId()));
+
+        statistics.clear();
+        String etag = commentService.getCommentTreeETag(boardId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(etag).isEqualTo(CommentTreeFingerprint.of(commentService.getCommentsByBoardId(boardId)).toETag());
+
+        commentService.updateComment(boardId, root.getId(), new CommentRequestDto("수정", "작성자", null), null);
+        assertThat(commentService.getCommentTreeETag(boardId)).isNotEqualTo(etag);
+    }
+}
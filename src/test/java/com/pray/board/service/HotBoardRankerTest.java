@@ -0,0 +1,46 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+import com.pray.board.event.BoardLikeChangedEvent;
+import com.pray.board.event.CommentCreatedEvent;
+import com.pray.board.repository.BoardRepository;
+
+class HotBoardRankerTest {
+
+    private final HotBoardRanker ranker =
+            new HotBoardRanker(mock(BoardRepository.class), 6, 1.0, -0.5, 2.0, 3, 1000, 0.01, 72);
+
+    @Test
+    void 가중치_합_순으로_정렬하고_rebase_후에도_순서를_유지한다() {
+        ranker.onLikeChanged(new BoardLikeChangedEvent(1L, 1, 0));
+        ranker.onCommentCreated(new CommentCreatedEvent(2L, null));
+        ranker.onLikeChanged(new BoardLikeChangedEvent(3L, 1, 0));
+        ranker.onCommentCreated(new CommentCreatedEvent(3L, null));
+        ranker.refreshSnapshot();
+
+        assertThat(ranker.page(0, 10)).containsExactly(3L, 2L, 1L);
+
+        ranker.rebase();
+        assertThat(ranker.page(0, 2)).containsExactly(3L, 2L);
+        assertThat(ranker.page(1, 2)).containsExactly(1L);
+        assertThat(ranker.page(2, 2)).isEmpty();
+    }
+
+    @Test
+    void 점수가_0_이하인_게시글은_목록에서_빠지고_용량을_넘으면_낮은_점수부터_버린다() {
+        ranker.onLikeChanged(new BoardLikeChangedEvent(1L, 1, 0));
+        ranker.onLikeChanged(new BoardLikeChangedEvent(1L, -1, 1));
+        ranker.onCommentCreated(new CommentCreatedEvent(2L, null));
+        ranker.onCommentCreated(new CommentCreatedEvent(3L, null));
+        ranker.onCommentCreated(new CommentCreatedEvent(3L, null));
+        ranker.onCommentCreated(new CommentCreatedEvent(4L, null));
+        ranker.refreshSnapshot();
+
+        // 용량 3: 음수 점수인 1번이 가장 먼저 버려집니다. 같은 점수는 최신(id 큰) 게시글이 앞섭니다.
+        assertThat(ranker.page(0, 10)).containsExactly(3L, 4L, 2L);
+    }
+}
@@ -0,0 +1,221 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardLikesRepository;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.service.LikeToggleBuffer.LikeDelta;
+import com.pray.board.service.LikeToggleBuffer.LikeState;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 버퍼 모드(board.like.buffer.enabled=true)의 좋아요 토글: 반복 토글 합치기, 미반영 증감분 합산 조회,
+ * 반영 실패 시 되돌리기, 종료 시 전체 반영을 H2 에서 확인합니다.
+ * 주기 반영은 길게 두고 테스트에서 flush() 를 직접 호출합니다.
+ */
+@SpringBootTest(properties = {
+        "board.like.buffer.enabled=true",
+        "board.like.buffer.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class LikeToggleBufferTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private LikeToggleBuffer likeToggleBuffer;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardLikesRepository boardLikesRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+    }
+
+    @Test
+    void repeatedTogglesAreCoalescedIntoOneNetDelta() {
+        assertThat(boardService.toggleLike(boardId, "alice", true).state()).isEqualTo("LIKE");
+        assertThat(boardService.toggleLike(boardId, "alice", false).state()).isEqualTo("DISLIKE");
+        assertThat(boardService.toggleLike(boardId, "alice", true).state()).isEqualTo("LIKE");
+        // 같은 값을 두 번 눌러 원래대로 돌아온 토글은 반영할 것이 없습니다.
+        boardService.toggleLike(boardId, "bob", true);
+        boardService.toggleLike(boardId, "bob", true);
+        boardService.toggleLike(boardId, "carol", false);
+
+        assertThat(likeToggleBuffer.pendingDelta(boardId)).isEqualTo(new LikeDelta(1, 1));
+        assertThat(likeRows()).isEmpty();
+
+        likeToggleBuffer.flush();
+
+        assertThat(likeRows()).containsExactly(Map.entry("alice", true), Map.entry("carol", false));
+        assertThat(counters()).containsExactly(1L, 1L);
+        assertThat(likeToggleBuffer.pendingDelta(boardId)).isEqualTo(new LikeDelta(0, 0));
+    }
+
+    @Test
+    void readsIncludePendingDeltaOnceBeforeAndAfterFlush() {
+        boardService.getBoardById(boardId); // 반영 전 값이 캐시에 들어 있는 상태에서 시작합니다.
+        boardService.toggleLike(boardId, "alice", true);
+        boardService.toggleLike(boardId, "bob", false);
+
+        BoardResponseDto pending = boardService.getBoardById(boardId);
+        assertThat(pending.getLikeCount()).isEqualTo(1);
+        assertThat(pending.getDislikeCount()).isEqualTo(1);
+        assertThat(counters()).containsExactly(0L, 0L);
+
+        likeToggleBuffer.flush();
+
+        // 반영 후에는 DB 값만으로 같은 결과가 나와야 하며, 증감분이 두 번 더해지지 않아야 합니다.
+        BoardResponseDto flushed = boardService.getBoardById(boardId);
+        assertThat(flushed.getLikeCount()).isEqualTo(1);
+        assertThat(flushed.getDislikeCount()).isEqualTo(1);
+        assertThat(counters()).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void failedFlushPutsDeltasBackAndMergesWithNewerToggles() throws InterruptedException {
+        JdbcTemplate failingOnce = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("DB 연결 끊김"))
+                .doCallRealMethod()
+                .when(failingOnce).batchUpdate(anyString(), anyList());
+        LikeToggleBuffer buffer = newBuffer(failingOnce);
+        try {
+            buffer.toggle(boardId, "alice", true);
+            buffer.flush();
+
+            assertThat(likeRows()).isEmpty();
+            assertThat(buffer.pendingDelta(boardId)).isEqualTo(new LikeDelta(1, 0));
+
+            // 실패한 스냅샷 위에 새 토글이 쌓여도 최종 상태 하나로 합쳐집니다.
+            assertThat(buffer.toggle(boardId, "alice", false).state()).isEqualTo(LikeState.DISLIKE);
+            assertThat(buffer.pendingDelta(boardId)).isEqualTo(new LikeDelta(0, 1));
+
+            buffer.flush();
+
+            assertThat(likeRows()).containsExactly(Map.entry("alice", false));
+            assertThat(counters()).containsExactly(0L, 1L);
+            assertThat(buffer.pendingDelta(boardId)).isEqualTo(new LikeDelta(0, 0));
+        } finally {
+            buffer.destroy();
+        }
+    }
+
+    @Test
+    void destroyFlushesEverythingLeftInTheBuffer() throws InterruptedException {
+        LikeToggleBuffer buffer = newBuffer(jdbcTemplate);
+        for (int i = 0; i < 20; i++) {
+            buffer.toggle(boardId, "user" + i, i % 2 == 0);
+        }
+
+        buffer.destroy();
+
+        assertThat(likeRows()).hasSize(20);
+        assertThat(counters()).containsExactly(10L, 10L);
+    }
+
+    @Test
+    void rowInsertedByAnotherNodeIsOverwrittenWithBufferedState() {
+        boardService.toggleLike(boardId, "alice", true);
+        // 버퍼가 반영하기 전에 다른 노드가 같은 (게시글, 작성자) 행을 넣은 경우
+        jdbcTemplate.update("INSERT INTO board_likes (board_id, author, is_like, created_at) VALUES (?, ?, false, CURRENT_TIMESTAMP)",
+                boardId, "alice");
+
+        likeToggleBuffer.flush();
+
+        assertThat(likeRows()).containsExactly(Map.entry("alice", true));
+    }
+
+    @Test
+    void bufferedToggleChecksBoardThroughDetailCacheWithoutWriteTransaction() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boardService.getBoardById(boardId);
+
+        statistics.clear();
+        boardService.toggleLike(boardId, "alice", true);
+        // 게시글은 캐시로 확인하고, 이 작성자의 현재 상태 조회 한 번만 나갑니다.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        boardService.toggleLike(boardId, "alice", true);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getTransactionCount()).isZero();
+
+        boardService.deleteBoard(boardId);
+        assertThatThrownBy(() -> boardService.toggleLike(boardId, "bob", true)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void toggleOnBoardDeletedAfterTheCheckIsDroppedOnFlush() {
+        boardService.toggleLike(boardId, "alice", true);
+        boardService.deleteBoard(boardId);
+
+        likeToggleBuffer.flush();
+
+        assertThat(likeRows()).isEmpty();
+        assertThat(likeToggleBuffer.pendingDelta(boardId)).isEqualTo(new LikeDelta(0, 0));
+    }
+
+    // 스트라이프가 적고 주기 반영이 없는 별도 버퍼 (flush/destroy 를 테스트에서 직접 호출)
+    private LikeToggleBuffer newBuffer(JdbcTemplate jdbc) {
+        return new LikeToggleBuffer(boardLikesRepository, jdbc, transactionManager, cacheManager, 4, 3_600_000, 10_000, 500);
+    }
+
+    private List<Long> counters() {
+        return jdbcTemplate.queryForObject("SELECT like_count, dislike_count FROM board WHERE id = ?",
+                (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2)), boardId);
+    }
+
+    private Map<String, Boolean> likeRows() {
+        Map<String, Boolean> rows = new TreeMap<>();
+        jdbcTemplate.query("SELECT author, is_like FROM board_likes WHERE board_id = ?",
+                rs -> {
+                    rows.put(rs.getString(1), rs.getBoolean(2));
+                }, boardId);
+        return rows;
+    }
+}
@@ -0,0 +1,147 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.pray.board.dto.LikeResponseDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+
+/**
+ * 여러 스레드가 한 게시글에 좋아요/싫어요를 동시에 토글해도 중복 행이 생기지 않고
+ * 게시글 카운터가 실제 행 수와 같으며, 각 요청이 돌려준 상태가 최종 상태와 맞는지 확인합니다.
+ * 토글 문장이 PostgreSQL 전용이므로 실제 PostgreSQL(Flyway 스키마) 위에서 실행합니다. (Docker 가 없으면 건너뜁니다)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class LikeToggleConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int AUTHORS = 8;
+    private static final int TOGGLES = 2_000;
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+    }
+
+    @Test
+    void sameValueTogglesSettleOnParityOfAppliedToggles() throws Exception {
+        // 작성자별로 적용된 토글 수와, 응답이 LIKE 였던 수 - NONE 이었던 수를 모읍니다.
+        Map<String, AtomicInteger> applied = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> reported = new ConcurrentHashMap<>();
+
+        hammer(i -> {
+            String author = "user" + (i % AUTHORS);
+            LikeResponseDto response = boardService.toggleLike(boardId, author, true);
+            applied.computeIfAbsent(author, a -> new AtomicInteger()).incrementAndGet();
+            reported.computeIfAbsent(author, a -> new AtomicInteger())
+                    .addAndGet("LIKE".equals(response.state()) ? 1 : -1);
+        });
+
+        long expectedLikes = 0;
+        for (int a = 0; a < AUTHORS; a++) {
+            String author = "user" + a;
+            int toggles = applied.getOrDefault(author, new AtomicInteger()).get();
+            int finalState = toggles % 2;
+            expectedLikes += finalState;
+            assertThat(reported.getOrDefault(author, new AtomicInteger()).get()).isEqualTo(finalState);
+        }
+
+        assertThat(rowCount(true)).isEqualTo(expectedLikes);
+        assertThat(rowCount(false)).isZero();
+        assertCountersMatchRows();
+    }
+
+    @Test
+    void mixedTogglesKeepOneRowPerAuthorAndCountersInSync() throws Exception {
+        hammer(i -> boardService.toggleLike(boardId, "user" + (i % AUTHORS), new Random(i).nextBoolean()));
+
+        Long duplicates = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) - COUNT(DISTINCT author) FROM board_likes WHERE board_id = ?", Long.class, boardId);
+        assertThat(duplicates).isZero();
+        assertThat(rowCount(true) + rowCount(false)).isLessThanOrEqualTo(AUTHORS);
+        assertCountersMatchRows();
+    }
+
+    private interface Toggle {
+        void run(int i);
+    }
+
+    // 시작 신호에 맞춰 모든 스레드가 동시에 토글합니다. 재시도 한도를 넘긴 토글(IllegalStateException)은 적용되지 않은 것으로 봅니다.
+    private void hammer(Toggle toggle) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = next.getAndIncrement(); i < TOGGLES; i = next.getAndIncrement()) {
+                        try {
+                            toggle.run(i);
+                        } catch (IllegalStateException e) {
+                            // 동시 커밋과 계속 겹친 경우
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long rowCount(boolean isLike) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM board_likes WHERE board_id = ? AND is_like = ?", Long.class, boardId, isLike);
+    }
+
+    private void assertCountersMatchRows() {
+        Map<String, Object> counters = jdbcTemplate.queryForMap(
+                "SELECT like_count, dislike_count FROM board WHERE id = ?", boardId);
+        assertThat(((Number) counters.get("like_count")).longValue()).isEqualTo(rowCount(true));
+        assertThat(((Number) counters.get("dislike_count")).longValue()).isEqualTo(rowCount(false));
+    }
+}
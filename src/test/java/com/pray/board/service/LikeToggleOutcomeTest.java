@@ -0,0 +1,42 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.pray.board.repository.BoardLikesRepository;
+import com.pray.board.service.LikeToggleBuffer.LikeDelta;
+import com.pray.board.service.LikeToggleBuffer.LikeState;
+import com.pray.board.service.LikeToggleBuffer.ToggleResult;
+
+/**
+ * 즉시 반영 경로의 토글 쿼리 결과(TOGGLE_*)가 토글 이후 상태와 카운터 증감분으로 바르게 바뀌는지 확인합니다.
+ * 쿼리 자체는 PostgreSQL 전용이라 DB 없이, 이전 상태에서 한 번 누른 결과와 비교합니다.
+ */
+class LikeToggleOutcomeTest {
+
+    @Test
+    void everyOutcomeMatchesTheTransitionFromThePreviousState() {
+        for (LikeState previous : LikeState.values()) {
+            for (boolean isLike : new boolean[] { true, false }) {
+                LikeState requested = isLike ? LikeState.LIKE : LikeState.DISLIKE;
+                LikeState expected = (previous == requested) ? LikeState.NONE : requested;
+                String outcome = (previous == LikeState.NONE) ? BoardLikesRepository.TOGGLE_INSERTED
+                        : (previous == requested) ? BoardLikesRepository.TOGGLE_DELETED
+                        : BoardLikesRepository.TOGGLE_FLIPPED;
+
+                ToggleResult result = BoardService.toggleResult(outcome, isLike);
+
+                assertThat(result.state()).as("%s 에서 %s", previous, requested).isEqualTo(expected);
+                assertThat(result.delta()).as("%s 에서 %s", previous, requested)
+                        .isEqualTo(new LikeDelta(expected.likes() - previous.likes(), expected.dislikes() - previous.dislikes()));
+            }
+        }
+    }
+
+    @Test
+    void unknownOutcomeIsRejected() {
+        assertThatThrownBy(() -> BoardService.toggleResult("UPSERTED", true)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,155 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.pray.board.dto.BoardRequestDto;
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+
+/**
+ * 여러 스레드가 한 게시글을 동시에 수정할 때 갱신 손실이 없는지 확인하고, 충돌 비율과 처리량을 출력합니다.
+ * 각 수정은 내용의 숫자를 1 올리는 읽기-수정-쓰기이므로, 잃어버린 수정이 있으면 최종 숫자가 성공 횟수보다 작아집니다.
+ * (Docker 가 없으면 건너뜁니다)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class OptimisticLockingConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int EDITS = 2_000;
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("0").author("작성자").build()).getId();
+    }
+
+    @Test
+    void conditionalUpdatesNeverLoseAnIncrement() throws Exception {
+        AtomicInteger conflicts = new AtomicInteger();
+
+        Result result = hammer(() -> {
+            BoardResponseDto current = boardService.getBoardById(boardId);
+            BoardRequestDto next = new BoardRequestDto(current.getTitle(),
+                    Long.toString(Long.parseLong(current.getContent()) + 1), current.getAuthor());
+            try {
+                boardService.updateBoard(boardId, next, current.getVersion());
+                return true;
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.incrementAndGet();
+                return false;
+            }
+        });
+
+        report("If-Match", result, conflicts.get());
+        assertThat(result.succeeded()).isGreaterThanOrEqualTo(EDITS);
+        assertThat(Long.parseLong(column("content"))).isEqualTo(result.succeeded());
+        assertThat(Long.parseLong(column("version"))).isEqualTo(result.succeeded());
+    }
+
+    @Test
+    void unconditionalUpdatesAreCheckedByVersionOnFlush() throws Exception {
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+
+        Result result = hammer(() -> {
+            // 같은 값으로 바꾸면 변경이 없어 UPDATE 가 나가지 않으므로 매번 다른 내용을 씁니다.
+            BoardRequestDto next = new BoardRequestDto("기도 제목", "덮어쓰기 " + sequence.incrementAndGet(), "작성자");
+            try {
+                boardService.updateBoard(boardId, next, null);
+                return true;
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.incrementAndGet();
+                return false;
+            }
+        });
+
+        report("@Version", result, conflicts.get());
+        // 성공한 수정마다 버전이 정확히 한 번씩 올랐습니다. (충돌한 수정은 아무것도 바꾸지 않음)
+        assertThat(Long.parseLong(column("version"))).isEqualTo(result.succeeded());
+    }
+
+    private interface Edit {
+        boolean attempt();
+    }
+
+    private record Result(int succeeded, int attempts, long elapsedNanos) {
+    }
+
+    // 성공이 EDITS 번에 이를 때까지 모든 스레드가 동시에 수정을 시도합니다. (마지막에 겹친 수정으로 조금 넘을 수 있습니다)
+    private Result hammer(Edit edit) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger attempts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (succeeded.get() < EDITS) {
+                        attempts.incrementAndGet();
+                        if (edit.attempt()) {
+                            succeeded.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+            return new Result(succeeded.get(), attempts.get(), System.nanoTime() - started);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void report(String mode, Result result, int conflicts) {
+        double seconds = result.elapsedNanos() / 1e9;
+        System.out.printf("%n[%s] %d edits / %d attempts in %.2fs: %.0f edits/s, conflict rate %.1f%%%n",
+                mode, result.succeeded(), result.attempts(), seconds, result.succeeded() / seconds,
+                100.0 * conflicts / result.attempts());
+    }
+
+    private String column(String name) {
+        return jdbcTemplate.queryForObject("SELECT " + name + "::text FROM board WHERE id = ?", String.class, boardId);
+    }
+}
@@ -0,0 +1,132 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pray.board.dto.BoardRequestDto;
+import com.pray.board.dto.BoardResponseDto;
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.dto.CommentResponseDto;
+import com.pray.board.entity.Board;
+import com.pray.board.entity.Comment;
+import com.pray.board.repository.BoardRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 버전 조건부 수정(updateIfVersion)과 조건 없는 수정의 @Version 검사를 H2 에서 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OptimisticLockingServiceTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+    }
+
+    @Test
+    void boardUpdateIfVersionBumpsVersionAndRejectsStaleVersion() {
+        BoardResponseDto updated = boardService.updateBoard(boardId, new BoardRequestDto("감사 제목", "새 내용", "작성자"), 0L);
+
+        assertThat(updated.getVersion()).isEqualTo(1);
+        assertThat(updated.getTitle()).isEqualTo("감사 제목");
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT title, title_tokens, version, updated_at FROM board WHERE id = ?", boardId);
+        assertThat(row.get("version")).isEqualTo(1L);
+        assertThat((String) row.get("title_tokens")).contains("감사");
+        assertThat(row.get("updated_at")).isNotNull();
+
+        assertThatThrownBy(() -> boardService.updateBoard(boardId, new BoardRequestDto("늦은 수정", "내용", "작성자"), 0L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(boardService.getBoardById(boardId).getTitle()).isEqualTo("감사 제목");
+    }
+
+    @Test
+    void boardUpdateIfVersionOnMissingOrDeletedBoardIsNotFound() {
+        assertThatThrownBy(() -> boardService.updateBoard(-1L, new BoardRequestDto("제목", "내용", "작성자"), 0L))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        boardService.deleteBoard(boardId);
+        assertThatThrownBy(() -> boardService.updateBoard(boardId, new BoardRequestDto("제목", "내용", "작성자"), 0L))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void unconditionalUpdateOverStaleEntityIsRejectedByVersionCheck() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate other = new TransactionTemplate(transactionManager);
+        other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThatThrownBy(() -> outer.executeWithoutResult(status -> {
+            // 이 트랜잭션이 읽어 둔 뒤(version 0) 다른 트랜잭션의 수정이 먼저 커밋된 경우
+            boardRepository.findById(boardId).orElseThrow();
+            other.executeWithoutResult(s -> jdbcTemplate.update(
+                    "UPDATE board SET content = '먼저 수정', version = version + 1 WHERE id = ?", boardId));
+            boardService.updateBoard(boardId, new BoardRequestDto("기도 제목", "늦은 수정", "작성자"), null);
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM board WHERE id = ?", String.class, boardId))
+                .isEqualTo("먼저 수정");
+    }
+
+    @Test
+    void commentUpdateIfVersionBumpsVersionAndRejectsStaleOrDeleted() {
+        CommentResponseDto comment = commentService.createComment(boardId, new CommentRequestDto("아멘", "작성자", null));
+        assertThat(comment.getVersion()).isZero();
+        // 경로까지 채워 INSERT 한 번으로 저장하므로 DB 의 버전도 응답과 같은 0 입니다.
+        assertThat(jdbcTemplate.queryForMap("SELECT version, path FROM comments WHERE id = ?", comment.getId()))
+                .containsEntry("version", 0L)
+                .containsEntry("path", Comment.childPath(null, comment.getId()));
+
+        CommentResponseDto updated = commentService.updateComment(boardId, comment.getId(),
+                new CommentRequestDto("함께 기도합니다", "작성자", null), 0L);
+        assertThat(updated.getVersion()).isEqualTo(1);
+        assertThat(updated.getContent()).isEqualTo("함께 기도합니다");
+        assertThat(jdbcTemplate.queryForObject("SELECT search_tokens FROM comments WHERE id = ?", String.class, comment.getId()))
+                .contains("기도");
+
+        assertThatThrownBy(() -> commentService.updateComment(boardId, comment.getId(),
+                new CommentRequestDto("늦은 수정", "작성자", null), 0L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        // 다른 게시글 경로로는 찾을 수 없습니다.
+        assertThatThrownBy(() -> commentService.updateComment(-1L, comment.getId(),
+                new CommentRequestDto("수정", "작성자", null), 1L))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        commentService.deleteComment(boardId, comment.getId());
+        assertThatThrownBy(() -> commentService.updateComment(boardId, comment.getId(),
+                new CommentRequestDto("수정", "작성자", null), 2L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void allowsBurstThenRefillsAtConfiguredRate() {
+        RateLimiter limiter = new RateLimiter("test", 2, 3, 100, meterRegistry, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user")).isZero();
+        }
+        // 초당 2개이므로 다음 토큰까지 0.5초
+        assertThat(limiter.tryAcquire("user")).isEqualTo(SECOND / 2);
+        // 다른 키는 영향을 받지 않습니다.
+        assertThat(limiter.tryAcquire("other")).isZero();
+
+        now.addAndGet(SECOND / 2);
+        assertThat(limiter.tryAcquire("user")).isZero();
+        assertThat(limiter.tryAcquire("user")).isPositive();
+
+        assertThat(meterRegistry.get("board.ratelimit.rejected").tag("limiter", "test").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedBurst() throws Exception {
+        RateLimiter limiter = new RateLimiter("test", 1, 50, 100, meterRegistry, now::get);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < 16; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire(7L) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 시계가 멈춰 있으므로 정확히 burst 만큼만 허용됩니다.
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+}
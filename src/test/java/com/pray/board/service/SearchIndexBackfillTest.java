@@ -0,0 +1,73 @@
+package com.pray.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pray.board.dto.CommentRequestDto;
+import com.pray.board.entity.Board;
+import com.pray.board.repository.BoardRepository;
+import com.pray.board.repository.SearchRepository;
+import com.pray.board.repository.SearchRepository.BackfillChunk;
+import com.pray.board.search.SearchTokenizer;
+
+/**
+ * 토큰이 비어 있는 기존 행을 id 순 청크(keyset)로 채우는지 H2 에서 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchIndexBackfillTest {
+
+    @Autowired
+    private SearchRepository searchRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void chunksContinueAfterTheLastIndexedId() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(boardRepository.save(Board.builder().title("감사 " + i).content("기도 " + i).author("작성자").build()).getId());
+        }
+        jdbcTemplate.update("UPDATE board SET title_tokens = NULL, content_tokens = NULL WHERE id IN (?, ?, ?)",
+                ids.get(1), ids.get(2), ids.get(4));
+
+        BackfillChunk first = searchRepository.backfillBoards(ids.get(0) - 1, 2);
+        assertThat(first).isEqualTo(new BackfillChunk(2, ids.get(2)));
+        BackfillChunk second = searchRepository.backfillBoards(first.lastId(), 2);
+        assertThat(second).isEqualTo(new BackfillChunk(1, ids.get(4)));
+        assertThat(searchRepository.backfillBoards(second.lastId(), 2)).isEqualTo(new BackfillChunk(0, ids.get(4)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT title_tokens FROM board WHERE id = ?", String.class, ids.get(2)))
+                .isEqualTo(SearchTokenizer.indexTokens("감사 2"));
+    }
+
+    @Test
+    void backfillFillsEveryBoardAndCommentWithEmptyTokens() {
+        Long boardId = boardRepository.save(Board.builder().title("기도 제목").content("내용").author("작성자").build()).getId();
+        for (int i = 0; i < 7; i++) {
+            commentService.createComment(boardId, new CommentRequestDto("함께 기도합니다 " + i, "작성자", null));
+        }
+        jdbcTemplate.update("UPDATE board SET title_tokens = NULL, content_tokens = NULL");
+        jdbcTemplate.update("UPDATE comments SET search_tokens = NULL");
+
+        new SearchIndexBackfill(searchRepository, 3).backfill();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board WHERE title_tokens IS NULL", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE search_tokens IS NULL", Long.class)).isZero();
+    }
+}